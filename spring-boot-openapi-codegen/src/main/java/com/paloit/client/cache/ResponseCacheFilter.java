@@ -0,0 +1,312 @@
+package com.paloit.client.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Private HTTP cache for the GET requests of the generated clients.
+ *
+ * Successful responses are stored as the bytes received, so every hit is decoded into new objects
+ * and callers cannot change each other's results. A stored response is returned without a request
+ * while it is fresh according to {@code Cache-Control: max-age} or {@code Expires}, afterwards it is
+ * revalidated with {@code If-None-Match} / {@code If-Modified-Since} and a {@code 304} response
+ * refreshes it. Responses with {@code no-store}, without freshness and without validators are not
+ * stored.
+ *
+ * The cache is bounded by the size of the stored bodies and by a time to live. Caffeine evicts with
+ * W-TinyLFU, so a scan of rarely read ids does not push out the frequently read ones.
+ */
+@Slf4j
+public class ResponseCacheFilter implements ExchangeFilterFunction {
+
+    /** Request headers which select the cached response besides the URI. */
+    private static final List<String> KEY_HEADERS = List.of(HttpHeaders.ACCEPT, HttpHeaders.AUTHORIZATION, "api_key");
+    /** Response headers which replace the stored ones when a response is revalidated. */
+    private static final List<String> REVALIDATED_HEADERS = List.of(HttpHeaders.CACHE_CONTROL, HttpHeaders.DATE,
+        HttpHeaders.ETAG, HttpHeaders.EXPIRES, HttpHeaders.LAST_MODIFIED);
+
+    private final Cache<String, CachedResponse> cache;
+    private final long defaultFreshnessNanos;
+
+    /**
+     * @param maxSize maximum size of the stored bodies and headers
+     * @param ttl time after which a response is removed, even if it could still be revalidated
+     * @param defaultFreshness time a response without max-age or Expires is used without revalidation
+     */
+    public ResponseCacheFilter(DataSize maxSize, Duration ttl, Duration defaultFreshness) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((String key, CachedResponse response) -> key.length() + response.weight())
+            .expireAfterWrite(ttl)
+            .build();
+        this.defaultFreshnessNanos = defaultFreshness.toNanos();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        HttpHeaders requestHeaders = request.headers();
+        if (request.method() != HttpMethod.GET
+            || requestHeaders.containsKey(HttpHeaders.IF_NONE_MATCH)
+            || requestHeaders.containsKey(HttpHeaders.IF_MODIFIED_SINCE)) {
+            return next.exchange(request);
+        }
+        CacheDirectives requestDirectives = CacheDirectives.parse(requestHeaders.getCacheControl());
+        if (requestDirectives.noStore) {
+            return next.exchange(request);
+        }
+
+        String key = key(request);
+        CachedResponse cached = cache.getIfPresent(key);
+        long now = System.nanoTime();
+        if (cached != null && !requestDirectives.noCache && cached.isFresh(now)) {
+            return Mono.just(cached.toResponse(request));
+        }
+
+        ClientRequest exchanged = cached != null && cached.hasValidators() ? conditional(request, cached) : request;
+        return next.exchange(exchanged)
+            .flatMap(response -> {
+                if (cached != null && response.statusCode() == HttpStatus.NOT_MODIFIED) {
+                    return response.releaseBody().then(Mono.fromCallable(() -> revalidated(key, cached, response, request)));
+                }
+                if (response.statusCode() == HttpStatus.OK && storable(response.headers().asHttpHeaders())) {
+                    return store(key, response, request);
+                }
+                return Mono.just(response);
+            });
+    }
+
+    /**
+     * Removes all stored responses.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private Mono<ClientResponse> store(String key, ClientResponse response, ClientRequest request) {
+        HttpHeaders headers = HttpHeaders.readOnlyHttpHeaders(copy(response.headers().asHttpHeaders()));
+        ExchangeStrategies strategies = response.strategies();
+        return response.bodyToMono(byte[].class)
+            .defaultIfEmpty(new byte[0])
+            .map(body -> {
+                CachedResponse entry = new CachedResponse(body, headers, strategies, freshUntil(headers, System.nanoTime()));
+                cache.put(key, entry);
+                return entry.toResponse(request);
+            });
+    }
+
+    private ClientResponse revalidated(String key, CachedResponse cached, ClientResponse notModified, ClientRequest request) {
+        HttpHeaders headers = copy(cached.headers);
+        HttpHeaders update = notModified.headers().asHttpHeaders();
+        for (String name : REVALIDATED_HEADERS) {
+            List<String> values = update.get(name);
+            if (values != null) {
+                headers.put(name, values);
+            }
+        }
+        headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        CachedResponse entry = new CachedResponse(cached.body, headers, cached.strategies, freshUntil(headers, System.nanoTime()));
+        cache.put(key, entry);
+        log.trace("Revalidated cached response of {}", request.url());
+        return entry.toResponse(request);
+    }
+
+    private boolean storable(HttpHeaders headers) {
+        CacheDirectives directives = CacheDirectives.parse(headers.getCacheControl());
+        if (directives.noStore) {
+            return false;
+        }
+        // The key only covers the headers in KEY_HEADERS
+        for (String vary : headers.getVary()) {
+            if (!HttpHeaders.ACCEPT.equalsIgnoreCase(vary) && !HttpHeaders.ACCEPT_ENCODING.equalsIgnoreCase(vary)) {
+                return false;
+            }
+        }
+        return headers.getETag() != null || headers.getFirst(HttpHeaders.LAST_MODIFIED) != null
+            || freshUntil(headers, 0) > 0;
+    }
+
+    /**
+     * @return System.nanoTime until which the response is fresh
+     */
+    private long freshUntil(HttpHeaders headers, long now) {
+        CacheDirectives directives = CacheDirectives.parse(headers.getCacheControl());
+        if (directives.noCache) {
+            return now;
+        }
+        if (directives.maxAge >= 0) {
+            long age = parseSeconds(headers.getFirst(HttpHeaders.AGE));
+            return now + TimeUnit.SECONDS.toNanos(Math.max(0, directives.maxAge - Math.max(0, age)));
+        }
+        long expires = headers.getExpires();
+        if (expires > 0) {
+            long date = headers.getDate() > 0 ? headers.getDate() : System.currentTimeMillis();
+            return now + TimeUnit.MILLISECONDS.toNanos(Math.max(0, expires - date));
+        }
+        return now + defaultFreshnessNanos;
+    }
+
+    private static ClientRequest conditional(ClientRequest request, CachedResponse cached) {
+        return ClientRequest.from(request)
+            .headers(headers -> {
+                String etag = cached.headers.getETag();
+                if (etag != null) {
+                    headers.setIfNoneMatch(etag);
+                }
+                String lastModified = cached.headers.getFirst(HttpHeaders.LAST_MODIFIED);
+                if (lastModified != null) {
+                    headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+                }
+            })
+            .build();
+    }
+
+    private static String key(ClientRequest request) {
+        StringBuilder key = new StringBuilder(request.url().toString());
+        for (String name : KEY_HEADERS) {
+            List<String> values = request.headers().get(name);
+            key.append('\n');
+            if (values != null) {
+                key.append(String.join(",", values));
+            }
+        }
+        return key.toString();
+    }
+
+    private static HttpHeaders copy(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        copy.putAll(headers);
+        return copy;
+    }
+
+    private static long parseSeconds(String value) {
+        if (!StringUtils.hasText(value)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Response body and headers as received, with the codecs of the client which received them.
+     */
+    private static final class CachedResponse {
+
+        private final byte[] body;
+        private final HttpHeaders headers;
+        private final ExchangeStrategies strategies;
+        private final long freshUntil;
+
+        CachedResponse(byte[] body, HttpHeaders headers, ExchangeStrategies strategies, long freshUntil) {
+            this.body = body;
+            this.headers = headers;
+            this.strategies = strategies;
+            this.freshUntil = freshUntil;
+        }
+
+        boolean isFresh(long now) {
+            return now - freshUntil < 0;
+        }
+
+        boolean hasValidators() {
+            return headers.getETag() != null || headers.getFirst(HttpHeaders.LAST_MODIFIED) != null;
+        }
+
+        ClientResponse toResponse(ClientRequest request) {
+            return ClientResponse.create(HttpStatus.OK, strategies)
+                .headers(responseHeaders -> responseHeaders.putAll(headers))
+                .request(httpRequest(request))
+                .body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body))))
+                .build();
+        }
+
+        private static HttpRequest httpRequest(ClientRequest request) {
+            return new HttpRequest() {
+                @Override
+                public String getMethodValue() {
+                    return request.method().name();
+                }
+
+                @Override
+                public URI getURI() {
+                    return request.url();
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return request.headers();
+                }
+            };
+        }
+
+        int weight() {
+            // Rough size of the headers, their values are short
+            return body.length + headers.size() * 64;
+        }
+    }
+
+    /**
+     * Parsed Cache-Control directives this cache acts on.
+     */
+    private static final class CacheDirectives {
+
+        private static final CacheDirectives NONE = new CacheDirectives(false, false, -1);
+
+        private final boolean noStore;
+        private final boolean noCache;
+        private final long maxAge;
+
+        private CacheDirectives(boolean noStore, boolean noCache, long maxAge) {
+            this.noStore = noStore;
+            this.noCache = noCache;
+            this.maxAge = maxAge;
+        }
+
+        static CacheDirectives parse(String cacheControl) {
+            if (!StringUtils.hasText(cacheControl)) {
+                return NONE;
+            }
+            boolean noStore = false;
+            boolean noCache = false;
+            long maxAge = -1;
+            for (String directive : cacheControl.split(",")) {
+                String name = directive.trim().toLowerCase(Locale.ROOT);
+                if (name.equals("no-store")) {
+                    noStore = true;
+                } else if (name.equals("no-cache") || name.startsWith("no-cache=")) {
+                    noCache = true;
+                } else if (name.startsWith("max-age=")) {
+                    maxAge = parseSeconds(name.substring("max-age=".length()).replace("\"", ""));
+                }
+            }
+            return new CacheDirectives(noStore, noCache, maxAge);
+        }
+    }
+}
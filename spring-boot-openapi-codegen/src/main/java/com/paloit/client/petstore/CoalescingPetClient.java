@@ -0,0 +1,212 @@
+package com.paloit.client.petstore;
+
+import com.paloit.client.petstore.webclient.api.PetApi;
+import com.paloit.client.petstore.webclient.model.Pet;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Fetches pets by id through {@link PetApi#getPetById}, sharing one HTTP call between all
+ * subscribers which ask for the same id while a call for it is in flight.
+ *
+ * Ids which are not in flight are collected for a short window and the collected ids are fetched
+ * with a bounded number of concurrent calls, so bursts of distinct ids do not open a connection
+ * each. Results are not cached, an id requested after its call completed is fetched again.
+ *
+ * Batches wait in a buffer while all calls are busy, so a saturated client queues ids instead of
+ * failing. Should the dispatcher fail anyway, the waiting requests fail with its error and a new
+ * dispatcher is started.
+ *
+ * The share of requests served by an in-flight call is exported as
+ * {@code petstore.client.pet.coalesced.ratio}.
+ */
+@Slf4j
+public class CoalescingPetClient {
+
+    private final PetApi petApi;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final int maxConcurrency;
+    private final ConcurrentHashMap<Long, Sinks.One<Pet>> inFlight = new ConcurrentHashMap<>();
+    // Replaced together when the dispatcher is restarted, guarded by this
+    private Sinks.Many<Long> pending;
+    private Disposable dispatcher;
+    private boolean disposed;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    /**
+     * @param petApi client used for the calls
+     * @param window time ids are collected before their calls are started, zero to start them at once
+     * @param maxBatchSize ids after which the calls are started before the window has passed
+     * @param maxConcurrency calls in flight at most
+     */
+    public CoalescingPetClient(PetApi petApi, Duration window, int maxBatchSize, int maxConcurrency) {
+        this.petApi = petApi;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrency = maxConcurrency;
+        start();
+    }
+
+    /**
+     * @param petId id of the pet
+     * @return the pet, empty if the response has no body, or the error of the shared call.
+     *     The call is started on subscription.
+     */
+    public Mono<Pet> getPetById(long petId) {
+        return Mono.defer(() -> join(petId));
+    }
+
+    /**
+     * Stops the dispatcher. Waiting requests and requests made afterwards fail.
+     */
+    public void dispose() {
+        synchronized (this) {
+            disposed = true;
+            dispatcher.dispose();
+        }
+        failWaiting(new IllegalStateException("CoalescingPetClient has been disposed"));
+    }
+
+    /**
+     * Registers the counters and gauges of the client. Not a MeterBinder, since Spring Boot creates
+     * the binders together with the meter registry, which the webclient of the client needs.
+     *
+     * @param registry meter registry
+     */
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("petstore.client.pet.requests", requests, LongAdder::sum)
+            .description("getPetById requests")
+            .register(registry);
+        FunctionCounter.builder("petstore.client.pet.coalesced", coalesced, LongAdder::sum)
+            .description("getPetById requests served by a call already in flight")
+            .register(registry);
+        FunctionCounter.builder("petstore.client.pet.calls", calls, LongAdder::sum)
+            .description("getPetById HTTP calls")
+            .register(registry);
+        FunctionCounter.builder("petstore.client.pet.batches", batches, LongAdder::sum)
+            .description("Batches of distinct ids dispatched together")
+            .register(registry);
+        Gauge.builder("petstore.client.pet.coalesced.ratio", this, CoalescingPetClient::coalescedRatio)
+            .description("Share of getPetById requests served by a call already in flight")
+            .register(registry);
+        Gauge.builder("petstore.client.pet.in-flight", inFlight, ConcurrentHashMap::size)
+            .description("Pet ids with a pending or running call")
+            .register(registry);
+    }
+
+    /**
+     * @return requests served by a call already in flight divided by all requests, 0 without requests
+     */
+    public double coalescedRatio() {
+        long total = requests.sum();
+        return total == 0 ? 0 : coalesced.sum() / (double) total;
+    }
+
+    long calls() {
+        return calls.sum();
+    }
+
+    private Mono<Pet> join(long petId) {
+        requests.increment();
+        Sinks.One<Pet> created = Sinks.one();
+        Sinks.One<Pet> existing = inFlight.putIfAbsent(petId, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.asMono();
+        }
+        // The unicast sink must not be emitted to concurrently
+        Sinks.EmitResult result;
+        synchronized (this) {
+            result = disposed ? Sinks.EmitResult.FAIL_TERMINATED : pending.tryEmitNext(petId);
+        }
+        if (result.isFailure()) {
+            // Nobody would complete the sink, later requests for the id must not join it
+            inFlight.remove(petId, created);
+            created.tryEmitError(new IllegalStateException("getPetById " + petId + " not dispatched: " + result));
+        }
+        return created.asMono();
+    }
+
+    private synchronized void start() {
+        pending = Sinks.many().unicast().onBackpressureBuffer();
+        Flux<Long> ids = pending.asFlux();
+        if (!window.isZero()) {
+            // bufferTimeout emits on its timer regardless of demand, the batches wait here while
+            // all calls are busy
+            ids = ids.bufferTimeout(maxBatchSize, window)
+                .onBackpressureBuffer()
+                .doOnNext(batch -> batches.increment())
+                .flatMapIterable(batch -> batch);
+        }
+        dispatcher = ids
+            .flatMap(this::fetch, maxConcurrency)
+            .subscribe(null, this::restart);
+    }
+
+    /**
+     * The ids buffered by the failed dispatcher and its running calls are lost, so their requests
+     * fail with its error.
+     */
+    private void restart(Throwable error) {
+        log.error("getPetById dispatcher failed, restarting it", error);
+        failWaiting(error);
+        synchronized (this) {
+            if (!disposed) {
+                start();
+            }
+        }
+    }
+
+    private void failWaiting(Throwable error) {
+        inFlight.forEach((petId, sink) -> {
+            if (inFlight.remove(petId, sink)) {
+                sink.tryEmitError(error);
+            }
+        });
+    }
+
+    private Mono<Void> fetch(long petId) {
+        Sinks.One<Pet> sink = inFlight.get(petId);
+        if (sink == null) {
+            // Failed by a restart or dispose in the meantime
+            return Mono.empty();
+        }
+        calls.increment();
+        // Deferred so that an exception thrown while building the request fails this id only
+        return Mono.defer(() -> petApi.getPetById(petId))
+            .doOnSuccess(pet -> complete(petId, sink, pet, null))
+            .doOnError(error -> complete(petId, sink, null, error))
+            .onErrorResume(error -> Mono.empty())
+            .then();
+    }
+
+    /**
+     * Removes the id before the result is emitted, so a request arriving afterwards starts a new call
+     * instead of joining a completed one. Subscribers which joined before still get the result.
+     */
+    private void complete(long petId, Sinks.One<Pet> sink, Pet pet, Throwable error) {
+        inFlight.remove(petId, sink);
+        if (error != null) {
+            log.debug("getPetById {} failed for {} waiting request(s)", petId, sink.currentSubscriberCount(), error);
+            sink.tryEmitError(error);
+        } else if (pet != null) {
+            sink.tryEmitValue(pet);
+        } else {
+            sink.tryEmitEmpty();
+        }
+    }
+}
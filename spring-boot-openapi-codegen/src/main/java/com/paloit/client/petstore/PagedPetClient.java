@@ -0,0 +1,53 @@
+package com.paloit.client.petstore;
+
+import com.paloit.client.petstore.webclient.api.PetApi;
+import com.paloit.client.petstore.webclient.model.Pet;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Iterates the pet search endpoints page by page with the keyset cursor of the X-Next-Cursor header.
+ *
+ * A page is only requested when the pets of the previous page have been consumed, so a subscriber
+ * which cancels early or consumes slowly does not make the server produce the whole result.
+ */
+public class PagedPetClient {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final PetApi petApi;
+
+    public PagedPetClient(PetApi petApi) {
+        this.petApi = petApi;
+    }
+
+    /**
+     * @param status comma separated status values
+     * @param pageSize pets per request, at most 1000
+     * @return all pets with the status, ordered by id
+     */
+    public Flux<Pet> findPetsByStatus(String status, int pageSize) {
+        return pages(cursor -> petApi.findPetsByStatusWithHttpInfo(status, pageSize, cursor));
+    }
+
+    /**
+     * @param tags tag names
+     * @param pageSize pets per request, at most 1000
+     * @return all pets with all tags, ordered by id
+     */
+    public Flux<Pet> findPetsByTags(List<String> tags, int pageSize) {
+        return pages(cursor -> petApi.findPetsByTagsWithHttpInfo(tags, pageSize, cursor));
+    }
+
+    private static Flux<Pet> pages(Function<String, Mono<ResponseEntity<List<Pet>>>> fetchPage) {
+        return fetchPage.apply(null)
+            .expand(page -> {
+                String nextCursor = page.getHeaders().getFirst(NEXT_CURSOR_HEADER);
+                return nextCursor == null ? Mono.empty() : fetchPage.apply(nextCursor);
+            })
+            .concatMapIterable(page -> page.getBody() == null ? List.of() : page.getBody(), 1);
+    }
+}
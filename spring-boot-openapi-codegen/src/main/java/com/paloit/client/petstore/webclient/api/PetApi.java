@@ -1,6 +1,7 @@
 package com.paloit.client.petstore.webclient.api;
 
 import com.paloit.client.petstore.webclient.apiclient.ApiClient;
+import com.paloit.client.petstore.webclient.apiclient.ApiOperation;
 import com.paloit.client.petstore.webclient.model.Pet;
 import java.util.HashMap;
 import java.util.List;
@@ -11,7 +12,6 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -41,6 +41,10 @@ public class PetApi {
         this.apiClient = apiClient;
     }
 
+    private static final ApiOperation<Pet> addPetOperation = new ApiOperation<>("/pet", HttpMethod.POST,
+        new String[] { "application/xml", "application/json" }, new String[] { "application/json", "application/xml", "application/x-www-form-urlencoded" }, new String[] { "petstore_auth" },
+        new ParameterizedTypeReference<Pet>() {});
+
     /**
      * Add a new pet to the store
      * Add a new pet to the store
@@ -56,27 +60,7 @@ public class PetApi {
         if (pet == null) {
             throw new WebClientResponseException("Missing the required parameter 'pet' when calling addPet", HttpStatus.BAD_REQUEST.value(), HttpStatus.BAD_REQUEST.getReasonPhrase(), null, null, null);
         }
-        // create path and map variables
-        final Map<String, Object> pathParams = new HashMap<String, Object>();
-
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { 
-            "application/xml", "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { 
-            "application/json", "application/xml", "application/x-www-form-urlencoded"
-        };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] { "petstore_auth" };
-
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
-        return apiClient.invokeAPI("/pet", HttpMethod.POST, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(addPetOperation, null, null, postBody, null, null, null);
     }
 
     /**
@@ -89,14 +73,19 @@ public class PetApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Pet> addPet(Pet pet) throws WebClientResponseException {
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
+        ParameterizedTypeReference<Pet> localVarReturnType = addPetOperation.getReturnType();
         return addPetRequestCreation(pet).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Pet>> addPetWithHttpInfo(Pet pet) throws WebClientResponseException {
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
+        ParameterizedTypeReference<Pet> localVarReturnType = addPetOperation.getReturnType();
         return addPetRequestCreation(pet).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<Void> deletePetOperation = new ApiOperation<>("/pet/{petId}", HttpMethod.DELETE,
+        new String[] { }, new String[] { }, new String[] { "petstore_auth" },
+        new ParameterizedTypeReference<Void>() {});
+
     /**
      * Deletes a pet
      * 
@@ -113,25 +102,13 @@ public class PetApi {
         }
         // create path and map variables
         final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         pathParams.put("petId", petId);
 
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
         final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
         if (apiKey != null)
         headerParams.add("api_key", apiClient.parameterToString(apiKey));
-        final String[] localVarAccepts = { };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] { "petstore_auth" };
 
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
-        return apiClient.invokeAPI("/pet/{petId}", HttpMethod.DELETE, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(deletePetOperation, pathParams, null, postBody, headerParams, null, null);
     }
 
     /**
@@ -143,46 +120,39 @@ public class PetApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Void> deletePet(Long petId, String apiKey) throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = deletePetOperation.getReturnType();
         return deletePetRequestCreation(petId, apiKey).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Void>> deletePetWithHttpInfo(Long petId, String apiKey) throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = deletePetOperation.getReturnType();
         return deletePetRequestCreation(petId, apiKey).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<Pet> findPetsByStatusOperation = new ApiOperation<>("/pet/findByStatus", HttpMethod.GET,
+        new String[] { "application/xml", "application/json" }, new String[] { }, new String[] { "petstore_auth" },
+        new ParameterizedTypeReference<Pet>() {});
+
     /**
      * Finds Pets by status
      * Multiple status values can be provided with comma separated strings
      * <p><b>200</b> - successful operation
      * <p><b>400</b> - Invalid status value
      * @param status Status values that need to be considered for filter
+     * @param limit Maximum number of pets per page, at most 1000. Without limit all pets are returned.
+     * @param cursor Opaque cursor from the X-Next-Cursor header of the previous page
      * @return List&lt;Pet&gt;
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
-    public ResponseSpec findPetsByStatusRequestCreation(String status) throws WebClientResponseException {
+    public ResponseSpec findPetsByStatusRequestCreation(String status, Integer limit, String cursor) throws WebClientResponseException {
         Object postBody = null;
         // create path and map variables
-        final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
         queryParams.putAll(apiClient.parameterToMultiValueMap(null, "status", status));
+        queryParams.putAll(apiClient.parameterToMultiValueMap(null, "limit", limit));
+        queryParams.putAll(apiClient.parameterToMultiValueMap(null, "cursor", cursor));
 
-        final String[] localVarAccepts = { 
-            "application/xml", "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] { "petstore_auth" };
-
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
-        return apiClient.invokeAPI("/pet/findByStatus", HttpMethod.GET, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(findPetsByStatusOperation, null, queryParams, postBody, null, null, null);
     }
 
     /**
@@ -191,50 +161,45 @@ public class PetApi {
      * <p><b>200</b> - successful operation
      * <p><b>400</b> - Invalid status value
      * @param status Status values that need to be considered for filter
+     * @param limit Maximum number of pets per page, at most 1000. Without limit all pets are returned.
+     * @param cursor Opaque cursor from the X-Next-Cursor header of the previous page
      * @return List&lt;Pet&gt;
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
-    public Flux<Pet> findPetsByStatus(String status) throws WebClientResponseException {
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
-        return findPetsByStatusRequestCreation(status).bodyToFlux(localVarReturnType);
+    public Flux<Pet> findPetsByStatus(String status, Integer limit, String cursor) throws WebClientResponseException {
+        ParameterizedTypeReference<Pet> localVarReturnType = findPetsByStatusOperation.getReturnType();
+        return findPetsByStatusRequestCreation(status, limit, cursor).bodyToFlux(localVarReturnType);
     }
 
-    public Mono<ResponseEntity<List<Pet>>> findPetsByStatusWithHttpInfo(String status) throws WebClientResponseException {
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
-        return findPetsByStatusRequestCreation(status).toEntityList(localVarReturnType);
+    public Mono<ResponseEntity<List<Pet>>> findPetsByStatusWithHttpInfo(String status, Integer limit, String cursor) throws WebClientResponseException {
+        ParameterizedTypeReference<Pet> localVarReturnType = findPetsByStatusOperation.getReturnType();
+        return findPetsByStatusRequestCreation(status, limit, cursor).toEntityList(localVarReturnType);
     }
+
+    private static final ApiOperation<Pet> findPetsByTagsOperation = new ApiOperation<>("/pet/findByTags", HttpMethod.GET,
+        new String[] { "application/xml", "application/json" }, new String[] { }, new String[] { "petstore_auth" },
+        new ParameterizedTypeReference<Pet>() {});
+
     /**
      * Finds Pets by tags
      * Multiple tags can be provided with comma separated strings. Use tag1, tag2, tag3 for testing.
      * <p><b>200</b> - successful operation
      * <p><b>400</b> - Invalid tag value
      * @param tags Tags to filter by
+     * @param limit Maximum number of pets per page, at most 1000. Without limit all pets are returned.
+     * @param cursor Opaque cursor from the X-Next-Cursor header of the previous page
      * @return List&lt;Pet&gt;
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
-    public ResponseSpec findPetsByTagsRequestCreation(List<String> tags) throws WebClientResponseException {
+    public ResponseSpec findPetsByTagsRequestCreation(List<String> tags, Integer limit, String cursor) throws WebClientResponseException {
         Object postBody = null;
         // create path and map variables
-        final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
         queryParams.putAll(apiClient.parameterToMultiValueMap(ApiClient.CollectionFormat.valueOf("multi".toUpperCase(Locale.ROOT)), "tags", tags));
+        queryParams.putAll(apiClient.parameterToMultiValueMap(null, "limit", limit));
+        queryParams.putAll(apiClient.parameterToMultiValueMap(null, "cursor", cursor));
 
-        final String[] localVarAccepts = { 
-            "application/xml", "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] { "petstore_auth" };
-
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
-        return apiClient.invokeAPI("/pet/findByTags", HttpMethod.GET, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(findPetsByTagsOperation, null, queryParams, postBody, null, null, null);
     }
 
     /**
@@ -243,18 +208,25 @@ public class PetApi {
      * <p><b>200</b> - successful operation
      * <p><b>400</b> - Invalid tag value
      * @param tags Tags to filter by
+     * @param limit Maximum number of pets per page, at most 1000. Without limit all pets are returned.
+     * @param cursor Opaque cursor from the X-Next-Cursor header of the previous page
      * @return List&lt;Pet&gt;
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
-    public Flux<Pet> findPetsByTags(List<String> tags) throws WebClientResponseException {
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
-        return findPetsByTagsRequestCreation(tags).bodyToFlux(localVarReturnType);
+    public Flux<Pet> findPetsByTags(List<String> tags, Integer limit, String cursor) throws WebClientResponseException {
+        ParameterizedTypeReference<Pet> localVarReturnType = findPetsByTagsOperation.getReturnType();
+        return findPetsByTagsRequestCreation(tags, limit, cursor).bodyToFlux(localVarReturnType);
     }
 
-    public Mono<ResponseEntity<List<Pet>>> findPetsByTagsWithHttpInfo(List<String> tags) throws WebClientResponseException {
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
-        return findPetsByTagsRequestCreation(tags).toEntityList(localVarReturnType);
+    public Mono<ResponseEntity<List<Pet>>> findPetsByTagsWithHttpInfo(List<String> tags, Integer limit, String cursor) throws WebClientResponseException {
+        ParameterizedTypeReference<Pet> localVarReturnType = findPetsByTagsOperation.getReturnType();
+        return findPetsByTagsRequestCreation(tags, limit, cursor).toEntityList(localVarReturnType);
     }
+
+    private static final ApiOperation<Pet> getPetByIdOperation = new ApiOperation<>("/pet/{petId}", HttpMethod.GET,
+        new String[] { "application/xml", "application/json" }, new String[] { }, new String[] { "api_key", "petstore_auth" },
+        new ParameterizedTypeReference<Pet>() {});
+
     /**
      * Find pet by ID
      * Returns a single pet
@@ -273,25 +245,9 @@ public class PetApi {
         }
         // create path and map variables
         final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         pathParams.put("petId", petId);
 
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { 
-            "application/xml", "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] { "api_key", "petstore_auth" };
-
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
-        return apiClient.invokeAPI("/pet/{petId}", HttpMethod.GET, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(getPetByIdOperation, pathParams, null, postBody, null, null, null);
     }
 
     /**
@@ -305,14 +261,19 @@ public class PetApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Pet> getPetById(Long petId) throws WebClientResponseException {
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
+        ParameterizedTypeReference<Pet> localVarReturnType = getPetByIdOperation.getReturnType();
         return getPetByIdRequestCreation(petId).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Pet>> getPetByIdWithHttpInfo(Long petId) throws WebClientResponseException {
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
+        ParameterizedTypeReference<Pet> localVarReturnType = getPetByIdOperation.getReturnType();
         return getPetByIdRequestCreation(petId).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<Pet> updatePetOperation = new ApiOperation<>("/pet", HttpMethod.PUT,
+        new String[] { "application/xml", "application/json" }, new String[] { "application/json", "application/xml", "application/x-www-form-urlencoded" }, new String[] { "petstore_auth" },
+        new ParameterizedTypeReference<Pet>() {});
+
     /**
      * Update an existing pet
      * Update an existing pet by Id
@@ -330,27 +291,7 @@ public class PetApi {
         if (pet == null) {
             throw new WebClientResponseException("Missing the required parameter 'pet' when calling updatePet", HttpStatus.BAD_REQUEST.value(), HttpStatus.BAD_REQUEST.getReasonPhrase(), null, null, null);
         }
-        // create path and map variables
-        final Map<String, Object> pathParams = new HashMap<String, Object>();
-
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { 
-            "application/xml", "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { 
-            "application/json", "application/xml", "application/x-www-form-urlencoded"
-        };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] { "petstore_auth" };
-
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
-        return apiClient.invokeAPI("/pet", HttpMethod.PUT, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(updatePetOperation, null, null, postBody, null, null, null);
     }
 
     /**
@@ -365,14 +306,19 @@ public class PetApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Pet> updatePet(Pet pet) throws WebClientResponseException {
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
+        ParameterizedTypeReference<Pet> localVarReturnType = updatePetOperation.getReturnType();
         return updatePetRequestCreation(pet).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Pet>> updatePetWithHttpInfo(Pet pet) throws WebClientResponseException {
-        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
+        ParameterizedTypeReference<Pet> localVarReturnType = updatePetOperation.getReturnType();
         return updatePetRequestCreation(pet).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<Void> updatePetWithFormOperation = new ApiOperation<>("/pet/{petId}", HttpMethod.POST,
+        new String[] { }, new String[] { }, new String[] { "petstore_auth" },
+        new ParameterizedTypeReference<Void>() {});
+
     /**
      * Updates a pet in the store with form data
      * 
@@ -390,26 +336,13 @@ public class PetApi {
         }
         // create path and map variables
         final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         pathParams.put("petId", petId);
 
         final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
         queryParams.putAll(apiClient.parameterToMultiValueMap(null, "name", name));
         queryParams.putAll(apiClient.parameterToMultiValueMap(null, "status", status));
 
-        final String[] localVarAccepts = { };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] { "petstore_auth" };
-
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
-        return apiClient.invokeAPI("/pet/{petId}", HttpMethod.POST, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(updatePetWithFormOperation, pathParams, queryParams, postBody, null, null, null);
     }
 
     /**
@@ -422,12 +355,12 @@ public class PetApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Void> updatePetWithForm(Long petId, String name, String status) throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = updatePetWithFormOperation.getReturnType();
         return updatePetWithFormRequestCreation(petId, name, status).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Void>> updatePetWithFormWithHttpInfo(Long petId, String name, String status) throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = updatePetWithFormOperation.getReturnType();
         return updatePetWithFormRequestCreation(petId, name, status).toEntity(localVarReturnType);
     }
 }
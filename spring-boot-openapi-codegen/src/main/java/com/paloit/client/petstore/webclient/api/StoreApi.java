@@ -1,19 +1,15 @@
 package com.paloit.client.petstore.webclient.api;
 
 import com.paloit.client.petstore.webclient.apiclient.ApiClient;
+import com.paloit.client.petstore.webclient.apiclient.ApiOperation;
 import com.paloit.client.petstore.webclient.model.Order;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient.ResponseSpec;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
@@ -39,6 +35,10 @@ public class StoreApi {
         this.apiClient = apiClient;
     }
 
+    private static final ApiOperation<Void> deleteOrderOperation = new ApiOperation<>("/store/order/{orderId}", HttpMethod.DELETE,
+        new String[] { }, new String[] { }, new String[] { },
+        new ParameterizedTypeReference<Void>() {});
+
     /**
      * Delete purchase order by ID
      * For valid response try integer IDs with value &lt; 1000. Anything above 1000 or nonintegers will generate API errors
@@ -55,23 +55,9 @@ public class StoreApi {
         }
         // create path and map variables
         final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         pathParams.put("orderId", orderId);
 
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] {  };
-
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
-        return apiClient.invokeAPI("/store/order/{orderId}", HttpMethod.DELETE, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(deleteOrderOperation, pathParams, null, postBody, null, null, null);
     }
 
     /**
@@ -83,14 +69,19 @@ public class StoreApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Void> deleteOrder(Long orderId) throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = deleteOrderOperation.getReturnType();
         return deleteOrderRequestCreation(orderId).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Void>> deleteOrderWithHttpInfo(Long orderId) throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = deleteOrderOperation.getReturnType();
         return deleteOrderRequestCreation(orderId).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<Map<String, Integer>> getInventoryOperation = new ApiOperation<>("/store/inventory", HttpMethod.GET,
+        new String[] { "application/json" }, new String[] { }, new String[] { "api_key" },
+        new ParameterizedTypeReference<Map<String, Integer>>() {});
+
     /**
      * Returns pet inventories by status
      * Returns a map of status codes to quantities
@@ -100,25 +91,7 @@ public class StoreApi {
      */
     public ResponseSpec getInventoryRequestCreation() throws WebClientResponseException {
         Object postBody = null;
-        // create path and map variables
-        final Map<String, Object> pathParams = new HashMap<String, Object>();
-
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { 
-            "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] { "api_key" };
-
-        ParameterizedTypeReference<Map<String, Integer>> localVarReturnType = new ParameterizedTypeReference<Map<String, Integer>>() {};
-        return apiClient.invokeAPI("/store/inventory", HttpMethod.GET, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(getInventoryOperation, null, null, postBody, null, null, null);
     }
 
     /**
@@ -129,14 +102,19 @@ public class StoreApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Map<String, Integer>> getInventory() throws WebClientResponseException {
-        ParameterizedTypeReference<Map<String, Integer>> localVarReturnType = new ParameterizedTypeReference<Map<String, Integer>>() {};
+        ParameterizedTypeReference<Map<String, Integer>> localVarReturnType = getInventoryOperation.getReturnType();
         return getInventoryRequestCreation().bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Map<String, Integer>>> getInventoryWithHttpInfo() throws WebClientResponseException {
-        ParameterizedTypeReference<Map<String, Integer>> localVarReturnType = new ParameterizedTypeReference<Map<String, Integer>>() {};
+        ParameterizedTypeReference<Map<String, Integer>> localVarReturnType = getInventoryOperation.getReturnType();
         return getInventoryRequestCreation().toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<Order> getOrderByIdOperation = new ApiOperation<>("/store/order/{orderId}", HttpMethod.GET,
+        new String[] { "application/xml", "application/json" }, new String[] { }, new String[] { },
+        new ParameterizedTypeReference<Order>() {});
+
     /**
      * Find purchase order by ID
      * For valid response try integer IDs with value &lt;&#x3D; 5 or &gt; 10. Other values will generate exceptions.
@@ -155,25 +133,9 @@ public class StoreApi {
         }
         // create path and map variables
         final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         pathParams.put("orderId", orderId);
 
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { 
-            "application/xml", "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] {  };
-
-        ParameterizedTypeReference<Order> localVarReturnType = new ParameterizedTypeReference<Order>() {};
-        return apiClient.invokeAPI("/store/order/{orderId}", HttpMethod.GET, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(getOrderByIdOperation, pathParams, null, postBody, null, null, null);
     }
 
     /**
@@ -187,14 +149,19 @@ public class StoreApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Order> getOrderById(Long orderId) throws WebClientResponseException {
-        ParameterizedTypeReference<Order> localVarReturnType = new ParameterizedTypeReference<Order>() {};
+        ParameterizedTypeReference<Order> localVarReturnType = getOrderByIdOperation.getReturnType();
         return getOrderByIdRequestCreation(orderId).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Order>> getOrderByIdWithHttpInfo(Long orderId) throws WebClientResponseException {
-        ParameterizedTypeReference<Order> localVarReturnType = new ParameterizedTypeReference<Order>() {};
+        ParameterizedTypeReference<Order> localVarReturnType = getOrderByIdOperation.getReturnType();
         return getOrderByIdRequestCreation(orderId).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<Order> placeOrderOperation = new ApiOperation<>("/store/order", HttpMethod.POST,
+        new String[] { "application/json" }, new String[] { "application/json", "application/xml", "application/x-www-form-urlencoded" }, new String[] { },
+        new ParameterizedTypeReference<Order>() {});
+
     /**
      * Place an order for a pet
      * Place a new order in the store
@@ -206,27 +173,7 @@ public class StoreApi {
      */
     public ResponseSpec placeOrderRequestCreation(Order order) throws WebClientResponseException {
         Object postBody = order;
-        // create path and map variables
-        final Map<String, Object> pathParams = new HashMap<String, Object>();
-
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { 
-            "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { 
-            "application/json", "application/xml", "application/x-www-form-urlencoded"
-        };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] {  };
-
-        ParameterizedTypeReference<Order> localVarReturnType = new ParameterizedTypeReference<Order>() {};
-        return apiClient.invokeAPI("/store/order", HttpMethod.POST, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(placeOrderOperation, null, null, postBody, null, null, null);
     }
 
     /**
@@ -239,12 +186,12 @@ public class StoreApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Order> placeOrder(Order order) throws WebClientResponseException {
-        ParameterizedTypeReference<Order> localVarReturnType = new ParameterizedTypeReference<Order>() {};
+        ParameterizedTypeReference<Order> localVarReturnType = placeOrderOperation.getReturnType();
         return placeOrderRequestCreation(order).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Order>> placeOrderWithHttpInfo(Order order) throws WebClientResponseException {
-        ParameterizedTypeReference<Order> localVarReturnType = new ParameterizedTypeReference<Order>() {};
+        ParameterizedTypeReference<Order> localVarReturnType = placeOrderOperation.getReturnType();
         return placeOrderRequestCreation(order).toEntity(localVarReturnType);
     }
 }
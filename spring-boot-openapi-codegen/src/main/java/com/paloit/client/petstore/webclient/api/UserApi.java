@@ -1,16 +1,15 @@
 package com.paloit.client.petstore.webclient.api;
 
 import com.paloit.client.petstore.webclient.apiclient.ApiClient;
+import com.paloit.client.petstore.webclient.apiclient.ApiOperation;
 import com.paloit.client.petstore.webclient.model.User;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -39,6 +38,10 @@ public class UserApi {
         this.apiClient = apiClient;
     }
 
+    private static final ApiOperation<User> createUserOperation = new ApiOperation<>("/user", HttpMethod.POST,
+        new String[] { "application/json", "application/xml" }, new String[] { "application/json", "application/xml", "application/x-www-form-urlencoded" }, new String[] { },
+        new ParameterizedTypeReference<User>() {});
+
     /**
      * Create user
      * This can only be done by the logged in user.
@@ -49,27 +52,7 @@ public class UserApi {
      */
     public ResponseSpec createUserRequestCreation(User user) throws WebClientResponseException {
         Object postBody = user;
-        // create path and map variables
-        final Map<String, Object> pathParams = new HashMap<String, Object>();
-
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { 
-            "application/json", "application/xml"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { 
-            "application/json", "application/xml", "application/x-www-form-urlencoded"
-        };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] {  };
-
-        ParameterizedTypeReference<User> localVarReturnType = new ParameterizedTypeReference<User>() {};
-        return apiClient.invokeAPI("/user", HttpMethod.POST, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(createUserOperation, null, null, postBody, null, null, null);
     }
 
     /**
@@ -81,14 +64,19 @@ public class UserApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<User> createUser(User user) throws WebClientResponseException {
-        ParameterizedTypeReference<User> localVarReturnType = new ParameterizedTypeReference<User>() {};
+        ParameterizedTypeReference<User> localVarReturnType = createUserOperation.getReturnType();
         return createUserRequestCreation(user).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<User>> createUserWithHttpInfo(User user) throws WebClientResponseException {
-        ParameterizedTypeReference<User> localVarReturnType = new ParameterizedTypeReference<User>() {};
+        ParameterizedTypeReference<User> localVarReturnType = createUserOperation.getReturnType();
         return createUserRequestCreation(user).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<User> createUsersWithListInputOperation = new ApiOperation<>("/user/createWithList", HttpMethod.POST,
+        new String[] { "application/xml", "application/json" }, new String[] { "application/json" }, new String[] { },
+        new ParameterizedTypeReference<User>() {});
+
     /**
      * Creates list of users with given input array
      * Creates list of users with given input array
@@ -100,27 +88,7 @@ public class UserApi {
      */
     public ResponseSpec createUsersWithListInputRequestCreation(List<User> user) throws WebClientResponseException {
         Object postBody = user;
-        // create path and map variables
-        final Map<String, Object> pathParams = new HashMap<String, Object>();
-
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { 
-            "application/xml", "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { 
-            "application/json"
-        };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] {  };
-
-        ParameterizedTypeReference<User> localVarReturnType = new ParameterizedTypeReference<User>() {};
-        return apiClient.invokeAPI("/user/createWithList", HttpMethod.POST, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(createUsersWithListInputOperation, null, null, postBody, null, null, null);
     }
 
     /**
@@ -133,14 +101,19 @@ public class UserApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<User> createUsersWithListInput(List<User> user) throws WebClientResponseException {
-        ParameterizedTypeReference<User> localVarReturnType = new ParameterizedTypeReference<User>() {};
+        ParameterizedTypeReference<User> localVarReturnType = createUsersWithListInputOperation.getReturnType();
         return createUsersWithListInputRequestCreation(user).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<User>> createUsersWithListInputWithHttpInfo(List<User> user) throws WebClientResponseException {
-        ParameterizedTypeReference<User> localVarReturnType = new ParameterizedTypeReference<User>() {};
+        ParameterizedTypeReference<User> localVarReturnType = createUsersWithListInputOperation.getReturnType();
         return createUsersWithListInputRequestCreation(user).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<Void> deleteUserOperation = new ApiOperation<>("/user/{username}", HttpMethod.DELETE,
+        new String[] { }, new String[] { }, new String[] { },
+        new ParameterizedTypeReference<Void>() {});
+
     /**
      * Delete user
      * This can only be done by the logged in user.
@@ -157,23 +130,9 @@ public class UserApi {
         }
         // create path and map variables
         final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         pathParams.put("username", username);
 
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] {  };
-
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
-        return apiClient.invokeAPI("/user/{username}", HttpMethod.DELETE, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(deleteUserOperation, pathParams, null, postBody, null, null, null);
     }
 
     /**
@@ -185,14 +144,19 @@ public class UserApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Void> deleteUser(String username) throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = deleteUserOperation.getReturnType();
         return deleteUserRequestCreation(username).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Void>> deleteUserWithHttpInfo(String username) throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = deleteUserOperation.getReturnType();
         return deleteUserRequestCreation(username).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<User> getUserByNameOperation = new ApiOperation<>("/user/{username}", HttpMethod.GET,
+        new String[] { "application/xml", "application/json" }, new String[] { }, new String[] { },
+        new ParameterizedTypeReference<User>() {});
+
     /**
      * Get user by user name
      * 
@@ -211,25 +175,9 @@ public class UserApi {
         }
         // create path and map variables
         final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         pathParams.put("username", username);
 
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { 
-            "application/xml", "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] {  };
-
-        ParameterizedTypeReference<User> localVarReturnType = new ParameterizedTypeReference<User>() {};
-        return apiClient.invokeAPI("/user/{username}", HttpMethod.GET, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(getUserByNameOperation, pathParams, null, postBody, null, null, null);
     }
 
     /**
@@ -243,14 +191,19 @@ public class UserApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<User> getUserByName(String username) throws WebClientResponseException {
-        ParameterizedTypeReference<User> localVarReturnType = new ParameterizedTypeReference<User>() {};
+        ParameterizedTypeReference<User> localVarReturnType = getUserByNameOperation.getReturnType();
         return getUserByNameRequestCreation(username).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<User>> getUserByNameWithHttpInfo(String username) throws WebClientResponseException {
-        ParameterizedTypeReference<User> localVarReturnType = new ParameterizedTypeReference<User>() {};
+        ParameterizedTypeReference<User> localVarReturnType = getUserByNameOperation.getReturnType();
         return getUserByNameRequestCreation(username).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<String> loginUserOperation = new ApiOperation<>("/user/login", HttpMethod.GET,
+        new String[] { "application/xml", "application/json" }, new String[] { }, new String[] { },
+        new ParameterizedTypeReference<String>() {});
+
     /**
      * Logs user into the system
      * 
@@ -264,27 +217,11 @@ public class UserApi {
     public ResponseSpec loginUserRequestCreation(String username, String password) throws WebClientResponseException {
         Object postBody = null;
         // create path and map variables
-        final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
         queryParams.putAll(apiClient.parameterToMultiValueMap(null, "username", username));
         queryParams.putAll(apiClient.parameterToMultiValueMap(null, "password", password));
 
-        final String[] localVarAccepts = { 
-            "application/xml", "application/json"
-        };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] {  };
-
-        ParameterizedTypeReference<String> localVarReturnType = new ParameterizedTypeReference<String>() {};
-        return apiClient.invokeAPI("/user/login", HttpMethod.GET, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(loginUserOperation, null, queryParams, postBody, null, null, null);
     }
 
     /**
@@ -298,14 +235,19 @@ public class UserApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<String> loginUser(String username, String password) throws WebClientResponseException {
-        ParameterizedTypeReference<String> localVarReturnType = new ParameterizedTypeReference<String>() {};
+        ParameterizedTypeReference<String> localVarReturnType = loginUserOperation.getReturnType();
         return loginUserRequestCreation(username, password).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<String>> loginUserWithHttpInfo(String username, String password) throws WebClientResponseException {
-        ParameterizedTypeReference<String> localVarReturnType = new ParameterizedTypeReference<String>() {};
+        ParameterizedTypeReference<String> localVarReturnType = loginUserOperation.getReturnType();
         return loginUserRequestCreation(username, password).toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<Void> logoutUserOperation = new ApiOperation<>("/user/logout", HttpMethod.GET,
+        new String[] { }, new String[] { }, new String[] { },
+        new ParameterizedTypeReference<Void>() {});
+
     /**
      * Logs out current logged in user session
      * 
@@ -314,23 +256,7 @@ public class UserApi {
      */
     public ResponseSpec logoutUserRequestCreation() throws WebClientResponseException {
         Object postBody = null;
-        // create path and map variables
-        final Map<String, Object> pathParams = new HashMap<String, Object>();
-
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] {  };
-
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
-        return apiClient.invokeAPI("/user/logout", HttpMethod.GET, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(logoutUserOperation, null, null, postBody, null, null, null);
     }
 
     /**
@@ -340,14 +266,19 @@ public class UserApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Void> logoutUser() throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = logoutUserOperation.getReturnType();
         return logoutUserRequestCreation().bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Void>> logoutUserWithHttpInfo() throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = logoutUserOperation.getReturnType();
         return logoutUserRequestCreation().toEntity(localVarReturnType);
     }
+
+    private static final ApiOperation<Void> updateUserOperation = new ApiOperation<>("/user/{username}", HttpMethod.PUT,
+        new String[] { }, new String[] { "application/json", "application/xml", "application/x-www-form-urlencoded" }, new String[] { },
+        new ParameterizedTypeReference<Void>() {});
+
     /**
      * Update user
      * This can only be done by the logged in user.
@@ -364,25 +295,9 @@ public class UserApi {
         }
         // create path and map variables
         final Map<String, Object> pathParams = new HashMap<String, Object>();
-
         pathParams.put("username", username);
 
-        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
-        final HttpHeaders headerParams = new HttpHeaders();
-        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
-        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
-
-        final String[] localVarAccepts = { };
-        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        final String[] localVarContentTypes = { 
-            "application/json", "application/xml", "application/x-www-form-urlencoded"
-        };
-        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-
-        String[] localVarAuthNames = new String[] {  };
-
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
-        return apiClient.invokeAPI("/user/{username}", HttpMethod.PUT, pathParams, queryParams, postBody, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+        return apiClient.invokeAPI(updateUserOperation, pathParams, null, postBody, null, null, null);
     }
 
     /**
@@ -394,12 +309,12 @@ public class UserApi {
      * @throws WebClientResponseException if an error occurs while attempting to invoke the API
      */
     public Mono<Void> updateUser(String username, User user) throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = updateUserOperation.getReturnType();
         return updateUserRequestCreation(username, user).bodyToMono(localVarReturnType);
     }
 
     public Mono<ResponseEntity<Void>> updateUserWithHttpInfo(String username, User user) throws WebClientResponseException {
-        ParameterizedTypeReference<Void> localVarReturnType = new ParameterizedTypeReference<Void>() {};
+        ParameterizedTypeReference<Void> localVarReturnType = updateUserOperation.getReturnType();
         return updateUserRequestCreation(username, user).toEntity(localVarReturnType);
     }
 }
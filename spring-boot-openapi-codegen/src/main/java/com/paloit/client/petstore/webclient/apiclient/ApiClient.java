@@ -8,6 +8,7 @@ import com.paloit.client.petstore.webclient.auth.Authentication;
 import com.paloit.client.petstore.webclient.auth.HttpBasicAuth;
 import com.paloit.client.petstore.webclient.auth.HttpBearerAuth;
 import com.paloit.client.petstore.webclient.auth.OAuth;
+import java.net.URI;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.time.OffsetDateTime;
@@ -19,8 +20,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import org.openapitools.jackson.nullable.JsonNullableModule;
 import org.springframework.core.ParameterizedTypeReference;
@@ -31,7 +32,6 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ClientHttpRequest;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
-import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
@@ -41,7 +41,6 @@ import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClient.ResponseSpec;
-import org.springframework.web.util.UriComponentsBuilder;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2022-01-19T15:22:07.236567+07:00[Asia/Bangkok]")
 public class ApiClient extends JavaTimeFormatter {
@@ -59,17 +58,23 @@ public class ApiClient extends JavaTimeFormatter {
     }
 
     private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+    private static final int MAX_URI_BUFFER_CAPACITY = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> URI_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
 
     private HttpHeaders defaultHeaders = new HttpHeaders();
     private MultiValueMap<String, String> defaultCookies = new LinkedMultiValueMap<String, String>();
 
     private String basePath = "/v3";
+    /** Compiled templates by operation path, cleared when the base path changes. */
+    private final Map<String, CompiledUriTemplate> uriTemplates = new ConcurrentHashMap<>();
 
     private final WebClient webClient;
     private final DateFormat dateFormat;
     private final ObjectMapper objectMapper;
 
     private Map<String, Authentication> authentications;
+    /** Accept sent instead of JSON alone when a binary format is preferred, null otherwise. */
+    private MediaType[] preferredJsonAccept;
 
 
     public ApiClient() {
@@ -80,21 +85,22 @@ public class ApiClient extends JavaTimeFormatter {
     }
 
     public ApiClient(WebClient webClient) {
-        this(Optional.ofNullable(webClient).orElseGet(() -> buildWebClient()), createDefaultDateFormat());
+        this(webClient, null, createDefaultDateFormat());
     }
 
     public ApiClient(ObjectMapper mapper, DateFormat format) {
-        this(buildWebClient(mapper.copy()), format);
+        this(null, mapper, format);
     }
 
-    public ApiClient(WebClient webClient, ObjectMapper mapper, DateFormat format) {
-        this(Optional.ofNullable(webClient).orElseGet(() -> buildWebClient(mapper.copy())), format);
-    }
-
-    private ApiClient(WebClient webClient, DateFormat format) {
-        this.webClient = webClient;
+    /**
+     * @param webClient client used for the requests, built with a copy of the mapper if null
+     * @param mapper mapper shared with the webclient codecs, a default mapper is created if null
+     * @param format format of date parameters
+     */
+    public ApiClient(@Nullable WebClient webClient, @Nullable ObjectMapper mapper, DateFormat format) {
         this.dateFormat = format;
-        this.objectMapper = createDefaultObjectMapper(format);
+        this.objectMapper = mapper != null ? mapper : createDefaultObjectMapper(format);
+        this.webClient = webClient != null ? webClient : buildWebClient(this.objectMapper.copy());
         this.init();
     }
 
@@ -182,6 +188,7 @@ public class ApiClient extends JavaTimeFormatter {
      */
     public ApiClient setBasePath(String basePath) {
         this.basePath = basePath;
+        uriTemplates.clear();
         return this;
     }
 
@@ -287,6 +294,20 @@ public class ApiClient extends JavaTimeFormatter {
         throw new RuntimeException("No OAuth2 authentication configured!");
     }
 
+    /**
+     * Prefers a binary format over JSON for operations which accept JSON. JSON stays in the
+     * Accept header with a lower quality, so servers without the format keep answering with
+     * JSON. Request bodies are sent as JSON.
+     *
+     * @param mediaType binary media type, for example application/cbor, or null for JSON only
+     * @return ApiClient this client
+     */
+    public ApiClient setPreferredAccept(@Nullable MediaType mediaType) {
+        this.preferredJsonAccept = mediaType == null ? null
+            : new MediaType[] {mediaType, new MediaType(MediaType.APPLICATION_JSON, Collections.singletonMap("q", "0.9"))};
+        return this;
+    }
+
     /**
      * Set the User-Agent header's value (by adding to the default header map).
      * @param userAgent the user agent string
@@ -337,10 +358,15 @@ public class ApiClient extends JavaTimeFormatter {
 
     /**
      * Parse the given string into Date object.
+     * The default format is parsed without shared state, other formats are cloned per call
+     * because {@code DateFormat} is not thread-safe.
      */
     public Date parseDate(String str) {
         try {
-            return dateFormat.parse(str);
+            if (dateFormat instanceof RFC3339DateFormat) {
+                return dateFormat.parse(str);
+            }
+            return ((DateFormat) dateFormat.clone()).parse(str);
         } catch (ParseException e) {
             throw new RuntimeException(e);
         }
@@ -348,9 +374,14 @@ public class ApiClient extends JavaTimeFormatter {
 
     /**
      * Format the given Date object into string.
+     * The default format is written without shared state, other formats are cloned per call
+     * because {@code DateFormat} is not thread-safe.
      */
     public String formatDate(Date date) {
-        return dateFormat.format(date);
+        if (dateFormat instanceof RFC3339DateFormat) {
+            return RFC3339Dates.formatEpochMillis(date.getTime());
+        }
+        return ((DateFormat) dateFormat.clone()).format(date);
     }
 
     /**
@@ -469,6 +500,10 @@ public class ApiClient extends JavaTimeFormatter {
      * @return boolean true if the MediaType represents JSON, false otherwise
      */
     public boolean isJsonMime(MediaType mediaType) {
+        return jsonMime(mediaType);
+    }
+
+    static boolean jsonMime(MediaType mediaType) {
         return mediaType != null && (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || mediaType.getSubtype().matches("^.*\\+json[;]?\\s*$"));
     }
 
@@ -478,6 +513,10 @@ public class ApiClient extends JavaTimeFormatter {
     * @return boolean true if the MediaType represents Problem JSON, false otherwise
     */
     public boolean isProblemJsonMime(String mediaType) {
+        return problemJsonMime(mediaType);
+    }
+
+    static boolean problemJsonMime(String mediaType) {
         return "application/problem+json".equalsIgnoreCase(mediaType);
     }
 
@@ -490,12 +529,16 @@ public class ApiClient extends JavaTimeFormatter {
      * @return List The list of MediaTypes to use for the Accept header
      */
     public List<MediaType> selectHeaderAccept(String[] accepts) {
+        return selectAccept(accepts);
+    }
+
+    static List<MediaType> selectAccept(String[] accepts) {
         if (accepts.length == 0) {
             return null;
         }
         for (String accept : accepts) {
             MediaType mediaType = MediaType.parseMediaType(accept);
-            if (isJsonMime(mediaType) && !isProblemJsonMime(accept)) {
+            if (jsonMime(mediaType) && !problemJsonMime(accept)) {
                 return Collections.singletonList(mediaType);
             }
         }
@@ -511,12 +554,16 @@ public class ApiClient extends JavaTimeFormatter {
      * @return MediaType The Content-Type header to use. If the given array is empty, null will be returned.
      */
     public MediaType selectHeaderContentType(String[] contentTypes) {
+        return selectContentType(contentTypes);
+    }
+
+    static MediaType selectContentType(String[] contentTypes) {
         if (contentTypes.length == 0) {
             return null;
         }
         for (String contentType : contentTypes) {
             MediaType mediaType = MediaType.parseMediaType(contentType);
-            if (isJsonMime(mediaType)) {
+            if (jsonMime(mediaType)) {
                 return mediaType;
             }
         }
@@ -565,73 +612,61 @@ public class ApiClient extends JavaTimeFormatter {
      * @return The response body in chosen type
      */
     public <T> ResponseSpec invokeAPI(String path, HttpMethod method, Map<String, Object> pathParams, MultiValueMap<String, String> queryParams, Object body, HttpHeaders headerParams, MultiValueMap<String, String> cookieParams, MultiValueMap<String, Object> formParams, List<MediaType> accept, MediaType contentType, String[] authNames, ParameterizedTypeReference<T> returnType) throws RestClientException {
-        final WebClient.RequestBodySpec requestBuilder = prepareRequest(path, method, pathParams, queryParams, body, headerParams, cookieParams, formParams, accept, contentType, authNames);
+        final MediaType[] acceptArray = accept == null ? null : accept.toArray(new MediaType[accept.size()]);
+        final WebClient.RequestBodySpec requestBuilder = prepareRequest(path, method, pathParams, queryParams, body, headerParams, cookieParams, formParams, acceptArray, contentType, authNames);
         return requestBuilder.retrieve();
     }
 
     /**
-     * Include queryParams in uriParams taking into account the paramName
-     * @param queryParam The query parameters
-     * @param uriParams The path parameters
-     * return templatized query string
-     */
-    private String generateQueryUri(MultiValueMap<String, String> queryParams, Map<String, Object> uriParams) {
-        StringBuilder queryBuilder = new StringBuilder();
-        queryParams.forEach((name, values) -> {
-            if (CollectionUtils.isEmpty(values)) {
-                if (queryBuilder.length() != 0) {
-                    queryBuilder.append('&');
-                }
-                queryBuilder.append(name);
-            } else {
-                int valueItemCounter = 0;
-                for (Object value : values) {
-                    if (queryBuilder.length() != 0) {
-                        queryBuilder.append('&');
-                    }
-                    queryBuilder.append(name);
-                    if (value != null) {
-                        String templatizedKey = name + valueItemCounter++;
-                        uriParams.put(templatizedKey, value.toString());
-                        queryBuilder.append('=').append("{").append(templatizedKey).append("}");
-                    }
-                }
-            }
-        });
-        return queryBuilder.toString();
+     * Invoke API by sending HTTP request for the given operation. Parameter maps which the operation
+     * does not use may be null, they are only created when an authentication has to be applied.
+     *
+     * @param <T> the return type to use
+     * @param operation The path, method, media types and authentications of the operation
+     * @param pathParams The path parameters or null
+     * @param queryParams The query parameters or null
+     * @param body The request body object
+     * @param headerParams The header parameters or null
+     * @param cookieParams The cookie parameters or null
+     * @param formParams The form parameters or null
+     * @return The response spec
+     */
+    public <T> ResponseSpec invokeAPI(ApiOperation<T> operation, Map<String, Object> pathParams, MultiValueMap<String, String> queryParams, Object body, HttpHeaders headerParams, MultiValueMap<String, String> cookieParams, MultiValueMap<String, Object> formParams) throws RestClientException {
+        if (operation.getAuthNames().length > 0) {
+            queryParams = queryParams == null ? new LinkedMultiValueMap<String, String>() : queryParams;
+            headerParams = headerParams == null ? new HttpHeaders() : headerParams;
+            cookieParams = cookieParams == null ? new LinkedMultiValueMap<String, String>() : cookieParams;
+        }
+        MediaType[] accept = operation.getAccept();
+        if (preferredJsonAccept != null && accept != null && accept.length == 1 && MediaType.APPLICATION_JSON.equals(accept[0])) {
+            accept = preferredJsonAccept;
+        }
+        final WebClient.RequestBodySpec requestBuilder = prepareRequest(operation.getPath(), operation.getMethod(), pathParams, queryParams, body, headerParams, cookieParams, formParams, accept, operation.getContentType(), operation.getAuthNames());
+        return requestBuilder.retrieve();
     }
 
     private WebClient.RequestBodySpec prepareRequest(String path, HttpMethod method, Map<String, Object> pathParams,
         MultiValueMap<String, String> queryParams, Object body, HttpHeaders headerParams,
-        MultiValueMap<String, String> cookieParams, MultiValueMap<String, Object> formParams, List<MediaType> accept,
+        MultiValueMap<String, String> cookieParams, MultiValueMap<String, Object> formParams, MediaType[] accept,
         MediaType contentType, String[] authNames) {
         updateParamsForAuth(authNames, queryParams, headerParams, cookieParams);
 
-        final UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(basePath).path(path);
-
-        String finalUri = builder.build(false).toUriString();
-        Map<String, Object> uriParams = new HashMap();
-        uriParams.putAll(pathParams);
-
-        if (queryParams != null && !queryParams.isEmpty()) {
-            //Include queryParams in uriParams taking into account the paramName
-            String queryUri = generateQueryUri(queryParams, uriParams);
-            //Append to finalUri the templatized query string like "?param1={param1Value}&.......
-            finalUri += "?" + queryUri;
-        }
-
-        final WebClient.RequestBodySpec requestBuilder = webClient.method(method).uri(finalUri, uriParams);
+        final WebClient.RequestBodySpec requestBuilder = webClient.method(method).uri(expandUri(path, pathParams, queryParams));
 
         if (accept != null) {
-            requestBuilder.accept(accept.toArray(new MediaType[accept.size()]));
+            requestBuilder.accept(accept);
         }
         if(contentType != null) {
             requestBuilder.contentType(contentType);
         }
 
-        addHeadersToRequest(headerParams, requestBuilder);
+        if (headerParams != null) {
+            addHeadersToRequest(headerParams, requestBuilder);
+        }
         addHeadersToRequest(defaultHeaders, requestBuilder);
-        addCookiesToRequest(cookieParams, requestBuilder);
+        if (cookieParams != null) {
+            addCookiesToRequest(cookieParams, requestBuilder);
+        }
         addCookiesToRequest(defaultCookies, requestBuilder);
 
         requestBuilder.attribute(URI_TEMPLATE_ATTRIBUTE, path);
@@ -640,6 +675,27 @@ public class ApiClient extends JavaTimeFormatter {
         return requestBuilder;
     }
 
+    /**
+     * Expands the precompiled template of the operation path into the reusable buffer of the
+     * calling thread. The result is passed to WebClient as a {@link URI}, so it is not parsed as a
+     * template again.
+     */
+    private URI expandUri(String path, Map<String, Object> pathParams, MultiValueMap<String, String> queryParams) {
+        CompiledUriTemplate template = uriTemplates.get(path);
+        if (template == null) {
+            template = uriTemplates.computeIfAbsent(path, p -> CompiledUriTemplate.compile(basePath, p));
+        }
+        StringBuilder uri = URI_BUFFER.get();
+        uri.setLength(0);
+        template.expand(uri, pathParams);
+        CompiledUriTemplate.appendQuery(uri, queryParams);
+        URI result = URI.create(uri.toString());
+        if (uri.capacity() > MAX_URI_BUFFER_CAPACITY) {
+            URI_BUFFER.remove();
+        }
+        return result;
+    }
+
     /**
      * Add headers to the request that is being built
      * @param headers The headers to add
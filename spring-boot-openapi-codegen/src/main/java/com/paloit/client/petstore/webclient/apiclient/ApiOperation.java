@@ -0,0 +1,74 @@
+package com.paloit.client.petstore.webclient.apiclient;
+
+import java.util.List;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+/**
+ * Settings of one API operation which do not depend on the arguments of a call: path, method,
+ * the selected Accept and Content-Type headers, the authentications and the response body type.
+ *
+ * The generated APIs keep one instance per operation in a static field, so the media types are
+ * parsed and selected once instead of on every call.
+ *
+ * @param <T> type the response body is read into
+ */
+public final class ApiOperation<T> {
+
+    private final String path;
+    private final HttpMethod method;
+    private final MediaType[] accept;
+    private final MediaType contentType;
+    private final String[] authNames;
+    private final ParameterizedTypeReference<T> returnType;
+
+    /**
+     * @param path path of the operation relative to the base path, may contain path variables
+     * @param method HTTP method
+     * @param accepts media types the operation produces
+     * @param contentTypes media types the operation consumes
+     * @param authNames names of the authentications to apply
+     * @param returnType type the response body is read into
+     */
+    public ApiOperation(String path, HttpMethod method, String[] accepts, String[] contentTypes, String[] authNames,
+        ParameterizedTypeReference<T> returnType) {
+        this.path = path;
+        this.method = method;
+        List<MediaType> accept = ApiClient.selectAccept(accepts);
+        this.accept = accept == null ? null : accept.toArray(new MediaType[0]);
+        this.contentType = ApiClient.selectContentType(contentTypes);
+        this.authNames = authNames.clone();
+        this.returnType = returnType;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    public MediaType getContentType() {
+        return contentType;
+    }
+
+    public ParameterizedTypeReference<T> getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * @return selected Accept media types or null, not copied so it must not be modified
+     */
+    MediaType[] getAccept() {
+        return accept;
+    }
+
+    /**
+     * @return names of the authentications, not copied so it must not be modified
+     */
+    String[] getAuthNames() {
+        return authNames;
+    }
+}
@@ -0,0 +1,177 @@
+package com.paloit.client.petstore.webclient.apiclient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * URI template of one operation, parsed once into its literal parts and variable names.
+ *
+ * Expanding appends the base path, the literals and the encoded variable values straight into a
+ * buffer, which replaces building the URI with {@code UriComponentsBuilder} and letting WebClient
+ * parse and expand the template again on every request. Values are encoded like WebClient encodes
+ * URI variables by default: everything but the unreserved characters of RFC 3986 is percent-encoded.
+ */
+final class CompiledUriTemplate {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /** One more literal than variables, the first literal starts with the base path. */
+    private final String[] literals;
+    private final String[] variables;
+
+    private CompiledUriTemplate(String[] literals, String[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    /**
+     * @param basePath base path including the host, e.g. {@code https://petstore3.swagger.io/api/v3}
+     * @param path operation path with variables, e.g. {@code /pet/{petId}}
+     * @return the parsed template
+     * @throws IllegalArgumentException if a variable is not closed
+     */
+    static CompiledUriTemplate compile(String basePath, String path) {
+        String base = basePath;
+        if (base.endsWith("/") && path.startsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        } else if (!base.endsWith("/") && !path.isEmpty() && !path.startsWith("/")) {
+            base = base + "/";
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(UriUtils.encodePath(base, StandardCharsets.UTF_8));
+        int start = 0;
+        int open;
+        while ((open = path.indexOf('{', start)) >= 0) {
+            int close = path.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed variable in URI template: " + path);
+            }
+            literal.append(UriUtils.encodePath(path.substring(start, open), StandardCharsets.UTF_8));
+            literals.add(literal.toString());
+            literal.setLength(0);
+            // Like Spring, ignore a regex after the variable name, e.g. {id:\d+}
+            String variable = path.substring(open + 1, close);
+            int colon = variable.indexOf(':');
+            variables.add((colon < 0 ? variable : variable.substring(0, colon)).trim());
+            start = close + 1;
+        }
+        literal.append(UriUtils.encodePath(path.substring(start), StandardCharsets.UTF_8));
+        literals.add(literal.toString());
+        return new CompiledUriTemplate(literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    /**
+     * Appends the base path and the path with the variables replaced by their encoded values.
+     *
+     * @param uri buffer to append to
+     * @param pathParams values of the path variables
+     * @throws IllegalArgumentException if a variable has no value
+     */
+    void expand(StringBuilder uri, Map<String, Object> pathParams) {
+        uri.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            String name = variables[i];
+            if (pathParams == null || !pathParams.containsKey(name)) {
+                throw new IllegalArgumentException("Map has no value for '" + name + "'");
+            }
+            Object value = pathParams.get(name);
+            if (value != null) {
+                appendEncoded(uri, value.toString());
+            }
+            uri.append(literals[i + 1]);
+        }
+    }
+
+    /**
+     * Appends the query string including the leading {@code ?}. Parameters without a value are
+     * appended by name only, like {@code ApiClient} did when it built a query template.
+     *
+     * @param uri buffer to append to
+     * @param queryParams query parameters, may be null or empty
+     */
+    static void appendQuery(StringBuilder uri, MultiValueMap<String, String> queryParams) {
+        if (queryParams == null || queryParams.isEmpty()) {
+            return;
+        }
+        char separator = '?';
+        for (Map.Entry<String, List<String>> entry : queryParams.entrySet()) {
+            List<String> values = entry.getValue();
+            if (values == null || values.isEmpty()) {
+                uri.append(separator);
+                appendEncoded(uri, entry.getKey());
+                separator = '&';
+                continue;
+            }
+            for (String value : values) {
+                uri.append(separator);
+                appendEncoded(uri, entry.getKey());
+                if (value != null) {
+                    uri.append('=');
+                    appendEncoded(uri, value);
+                }
+                separator = '&';
+            }
+        }
+    }
+
+    /**
+     * Percent-encodes the UTF-8 bytes of every character which is not unreserved.
+     */
+    static void appendEncoded(StringBuilder uri, String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && isUnreserved(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            uri.append(value);
+            return;
+        }
+        uri.append(value, 0, i);
+        while (i < length) {
+            char c = value.charAt(i);
+            if (isUnreserved(c)) {
+                uri.append(c);
+                i++;
+                continue;
+            }
+            int codePoint = value.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (codePoint < 0x80) {
+                appendByte(uri, codePoint);
+            } else if (codePoint < 0x800) {
+                appendByte(uri, 0xC0 | (codePoint >> 6));
+                appendByte(uri, 0x80 | (codePoint & 0x3F));
+            } else if (codePoint < 0x10000) {
+                // Lone surrogates are encoded as '?', like String.getBytes does
+                if (Character.isSurrogate((char) codePoint)) {
+                    appendByte(uri, '?');
+                    continue;
+                }
+                appendByte(uri, 0xE0 | (codePoint >> 12));
+                appendByte(uri, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendByte(uri, 0x80 | (codePoint & 0x3F));
+            } else {
+                appendByte(uri, 0xF0 | (codePoint >> 18));
+                appendByte(uri, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendByte(uri, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendByte(uri, 0x80 | (codePoint & 0x3F));
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+            || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static void appendByte(StringBuilder uri, int b) {
+        uri.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+    }
+}
@@ -23,7 +23,7 @@ import java.time.format.DateTimeParseException;
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2022-01-19T15:22:07.236567+07:00[Asia/Bangkok]")
 public class JavaTimeFormatter {
 
-    private DateTimeFormatter offsetDateTimeFormatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private volatile DateTimeFormatter offsetDateTimeFormatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
     /**
      * Get the date format used to parse/format {@code OffsetDateTime} parameters.
@@ -59,6 +59,9 @@ public class JavaTimeFormatter {
      * @return {@code OffsetDateTime} in string format
      */
     public String formatOffsetDateTime(OffsetDateTime offsetDateTime) {
+        if (offsetDateTimeFormatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+            return RFC3339Dates.format(offsetDateTime);
+        }
         return offsetDateTimeFormatter.format(offsetDateTime);
     }
 }
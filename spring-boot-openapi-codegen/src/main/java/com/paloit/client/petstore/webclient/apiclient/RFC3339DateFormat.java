@@ -12,7 +12,6 @@
 
 package com.paloit.client.petstore.webclient.apiclient;
 
-import com.fasterxml.jackson.databind.util.StdDateFormat;
 import java.text.DateFormat;
 import java.text.FieldPosition;
 import java.text.ParsePosition;
@@ -20,16 +19,18 @@ import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.TimeZone;
 
+/**
+ * RFC 3339 dates in UTC with milliseconds.
+ *
+ * Formatting and parsing keep no state, so one instance can be shared by any number of threads and
+ * {@link #clone()} returns it, which is what Jackson calls before each use of its date format.
+ */
 public class RFC3339DateFormat extends DateFormat {
   private static final long serialVersionUID = 1L;
   private static final TimeZone TIMEZONE_Z = TimeZone.getTimeZone("UTC");
 
-  private final StdDateFormat fmt = new StdDateFormat()
-          .withTimeZone(TIMEZONE_Z)
-          .withColonInTimeZone(true);
-
   public RFC3339DateFormat() {
-    this.calendar = new GregorianCalendar();
+    this.calendar = new GregorianCalendar(TIMEZONE_Z);
   }
 
   @Override
@@ -39,12 +40,13 @@ public class RFC3339DateFormat extends DateFormat {
 
   @Override
   public Date parse(String source, ParsePosition pos) {
-    return fmt.parse(source, pos);
+    Long epochMillis = RFC3339Dates.parseEpochMillis(source, pos);
+    return epochMillis == null ? null : new Date(epochMillis);
   }
 
   @Override
   public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
-    return fmt.format(date, toAppendTo, fieldPosition);
+    return toAppendTo.append(RFC3339Dates.formatEpochMillis(date.getTime()));
   }
 
   @Override
@@ -0,0 +1,231 @@
+package com.paloit.client.petstore.webclient.apiclient;
+
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Stateless RFC 3339 formatting and parsing, safe to use from any number of threads.
+ *
+ * Dates are written field by field into a per-thread buffer instead of going through a shared
+ * {@code DateFormat}, which is neither thread-safe nor cheap. The output is the same as before:
+ * {@code java.util.Date} as {@code yyyy-MM-dd'T'HH:mm:ss.SSS+00:00} like Jackson's
+ * {@code StdDateFormat} with colon, {@code OffsetDateTime} like
+ * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+ */
+final class RFC3339Dates {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    /** Dates before the Gregorian cutover are Julian in {@code java.util}, but proleptic in java.time. */
+    private static final long GREGORIAN_CUTOVER = new GregorianCalendar().getGregorianChange().getTime();
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private static final int MAX_BUFFER_CAPACITY = 256;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(40));
+
+    /** Accepts a date, a date-time without offset (UTC) and offsets with or without colon. */
+    private static final DateTimeFormatter PARSER = new DateTimeFormatterBuilder()
+        .parseCaseInsensitive()
+        .append(DateTimeFormatter.ISO_LOCAL_DATE)
+        .optionalStart()
+        .appendLiteral('T')
+        .append(DateTimeFormatter.ISO_LOCAL_TIME)
+        .optionalStart().appendOffset("+HH:MM", "Z").optionalEnd()
+        .optionalStart().appendOffset("+HHMM", "Z").optionalEnd()
+        .optionalEnd()
+        .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+        .parseDefaulting(ChronoField.OFFSET_SECONDS, 0)
+        .toFormatter(Locale.ROOT);
+
+    private RFC3339Dates() {
+    }
+
+    /**
+     * @param epochMillis milliseconds since the epoch
+     * @return the instant in UTC with milliseconds, e.g. {@code 2022-01-19T08:22:07.236+00:00}
+     */
+    static String formatEpochMillis(long epochMillis) {
+        StringBuilder buffer = buffer();
+        appendEpochMillis(buffer, epochMillis);
+        return buffer.toString();
+    }
+
+    /**
+     * @param dateTime date-time to format
+     * @return the same text as {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}
+     */
+    static String format(OffsetDateTime dateTime) {
+        int year = dateTime.getYear();
+        int offsetSeconds = dateTime.getOffset().getTotalSeconds();
+        if (year < 0 || year > 9999 || offsetSeconds % 60 != 0) {
+            // Signed years and second offsets are not worth a fast path
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+        }
+        StringBuilder buffer = buffer();
+        appendDate(buffer, year, dateTime.getMonthValue(), dateTime.getDayOfMonth());
+        buffer.append('T');
+        appendTime(buffer, dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
+        int nanos = dateTime.getNano();
+        if (nanos != 0) {
+            appendFraction(buffer, nanos);
+        }
+        if (offsetSeconds == 0) {
+            buffer.append('Z');
+        } else {
+            appendOffset(buffer, offsetSeconds / 60);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Appends the instant in UTC with milliseconds.
+     */
+    static void appendEpochMillis(StringBuilder buffer, long epochMillis) {
+        if (epochMillis < GREGORIAN_CUTOVER) {
+            buffer.append(legacyDateFormat().format(new Date(epochMillis)));
+            return;
+        }
+        long days = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        int millisOfDay = (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+
+        // Civil date from days since 1970-01-01, see http://howardhinnant.github.io/date_algorithms.html
+        long z = days + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year > 9999) {
+            buffer.append(legacyDateFormat().format(new Date(epochMillis)));
+            return;
+        }
+
+        appendDate(buffer, (int) year, month, day);
+        buffer.append('T');
+        int seconds = millisOfDay / 1000;
+        appendTime(buffer, seconds / 3600, seconds / 60 % 60, seconds % 60);
+        buffer.append('.');
+        int millis = millisOfDay % 1000;
+        buffer.append((char) ('0' + millis / 100)).append((char) ('0' + millis / 10 % 10)).append((char) ('0' + millis % 10));
+        buffer.append("+00:00");
+    }
+
+    /**
+     * @param text RFC 3339 date-time, ISO date or milliseconds since the epoch
+     * @param position index to parse from, set to the end on success or to the error index
+     * @return milliseconds since the epoch or null if the text cannot be parsed
+     */
+    static Long parseEpochMillis(String text, ParsePosition position) {
+        String source = text.substring(position.getIndex()).trim();
+        try {
+            long epochMillis;
+            if (isEpochMillis(source)) {
+                epochMillis = Long.parseLong(source);
+            } else {
+                epochMillis = OffsetDateTime.from(PARSER.parse(source)).toInstant().toEpochMilli();
+                if (epochMillis < GREGORIAN_CUTOVER) {
+                    epochMillis = legacyDateFormat().parse(source).getTime();
+                }
+            }
+            position.setIndex(text.length());
+            return epochMillis;
+        } catch (DateTimeException | NumberFormatException | ParseException e) {
+            position.setErrorIndex(position.getIndex());
+            return null;
+        }
+    }
+
+    /**
+     * @return a new format for the rare dates outside the fast path, it is not thread-safe
+     */
+    private static StdDateFormat legacyDateFormat() {
+        return new StdDateFormat().withTimeZone(UTC).withColonInTimeZone(true);
+    }
+
+    private static boolean isEpochMillis(String source) {
+        int start = source.startsWith("-") ? 1 : 0;
+        if (source.length() == start) {
+            return false;
+        }
+        for (int i = start; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder buffer = BUFFER.get();
+        if (buffer.capacity() > MAX_BUFFER_CAPACITY) {
+            buffer = new StringBuilder(40);
+            BUFFER.set(buffer);
+        }
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    private static void appendDate(StringBuilder buffer, int year, int month, int day) {
+        buffer.append((char) ('0' + year / 1000)).append((char) ('0' + year / 100 % 10))
+            .append((char) ('0' + year / 10 % 10)).append((char) ('0' + year % 10));
+        buffer.append('-');
+        appendTwoDigits(buffer, month);
+        buffer.append('-');
+        appendTwoDigits(buffer, day);
+    }
+
+    private static void appendTime(StringBuilder buffer, int hour, int minute, int second) {
+        appendTwoDigits(buffer, hour);
+        buffer.append(':');
+        appendTwoDigits(buffer, minute);
+        buffer.append(':');
+        appendTwoDigits(buffer, second);
+    }
+
+    /**
+     * Appends the nanoseconds as a decimal fraction without trailing zeros, like ISO_LOCAL_TIME.
+     */
+    private static void appendFraction(StringBuilder buffer, int nanos) {
+        buffer.append('.');
+        int digits = 9;
+        while (nanos % 10 == 0) {
+            nanos /= 10;
+            digits--;
+        }
+        for (int divisor = pow10(digits - 1); divisor > 0; divisor /= 10) {
+            buffer.append((char) ('0' + nanos / divisor % 10));
+        }
+    }
+
+    private static void appendOffset(StringBuilder buffer, int offsetMinutes) {
+        buffer.append(offsetMinutes < 0 ? '-' : '+');
+        int absolute = Math.abs(offsetMinutes);
+        appendTwoDigits(buffer, absolute / 60);
+        buffer.append(':');
+        appendTwoDigits(buffer, absolute % 60);
+    }
+
+    private static void appendTwoDigits(StringBuilder buffer, int value) {
+        buffer.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static int pow10(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
@@ -1,10 +1,16 @@
 package com.paloit.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paloit.client.petstore.CoalescingPetClient;
+import com.paloit.client.petstore.PagedPetClient;
 import com.paloit.client.petstore.webclient.api.PetApi;
 import com.paloit.client.petstore.webclient.api.StoreApi;
 import com.paloit.client.petstore.webclient.api.UserApi;
 import com.paloit.client.petstore.webclient.apiclient.ApiClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,7 +18,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * Configuration for generated clients (webclient). Any new client needs to be registered here.
- * All clients use a common webclient instance defined in the WebclientConfig.
+ * All clients use a common webclient instance defined in the WebclientConfig and the object mapper
+ * defined in the JacksonConfig.
  *
  * Authorization can be added with new ApiClient instances.
  */
@@ -21,21 +28,29 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class ApiClientConfig {
 
     private final WebClient webclient;
+    private final ObjectMapper objectMapper;
     private final String petstoreBasePath;
+    private final BinaryFormatConfig.BinaryFormat binaryFormat;
 
     /**
      * Autowires property from the application.yml to set as a base path for the below api clients and a webclient instance
      * defined in the WebclientConfig.
      *
      * @param webclient global webclient
+     * @param serverMapper objectmapper defined in JacksonConfig, also used by the webclient codecs
      * @param petstoreBasePath base path for the clients defined below
+     * @param binaryFormat format preferred over JSON in the Accept header of the clients
      */
     public ApiClientConfig(
         WebClient webclient,
-        @Value("${client.petstore.base-path}") String petstoreBasePath
+        ObjectMapper serverMapper,
+        @Value("${client.petstore.base-path}") String petstoreBasePath,
+        @Value("${client.http.binary-format:NONE}") BinaryFormatConfig.BinaryFormat binaryFormat
     ) {
         this.webclient = webclient;
+        this.objectMapper = serverMapper;
         this.petstoreBasePath = petstoreBasePath;
+        this.binaryFormat = binaryFormat;
     }
 
     /**
@@ -44,9 +59,42 @@ public class ApiClientConfig {
      */
     @Bean
     public PetApi petClient() {
-        return new PetApi(
-            new ApiClient(webclient).setBasePath(petstoreBasePath)
-        );
+        return new PetApi(apiClient());
+    }
+
+    /**
+     * Client iterating the pet search results page by page.
+     *
+     * @param petClient pet api
+     * @return paged pet client
+     */
+    @Bean
+    public PagedPetClient pagedPetClient(PetApi petClient) {
+        return new PagedPetClient(petClient);
+    }
+
+    /**
+     * Client sharing concurrent getPetById calls for the same id and batching distinct ids.
+     *
+     * @param petClient pet api
+     * @param window time ids are collected before their calls are started
+     * @param maxBatchSize ids after which the calls are started before the window has passed
+     * @param maxConcurrency getPetById calls in flight at most
+     * @param meterRegistry registry of the client metrics, bound here as the client needs the registry
+     *                      through its webclient
+     * @return coalescing pet client
+     */
+    @Bean(destroyMethod = "dispose")
+    public CoalescingPetClient coalescingPetClient(
+        PetApi petClient,
+        @Value("${client.petstore.coalescing.window:2ms}") Duration window,
+        @Value("${client.petstore.coalescing.max-batch-size:100}") int maxBatchSize,
+        @Value("${client.petstore.coalescing.max-concurrency:32}") int maxConcurrency,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        CoalescingPetClient client = new CoalescingPetClient(petClient, window, maxBatchSize, maxConcurrency);
+        meterRegistry.ifAvailable(client::bindTo);
+        return client;
     }
 
     /**
@@ -55,9 +103,7 @@ public class ApiClientConfig {
      */
     @Bean
     public StoreApi storeClient() {
-        return new StoreApi(
-            new ApiClient(webclient).setBasePath(petstoreBasePath)
-        );
+        return new StoreApi(apiClient());
     }
 
     /**
@@ -67,9 +113,15 @@ public class ApiClientConfig {
      */
     @Bean
     public UserApi userClient() {
-        return new UserApi(
-            new ApiClient(webclient).setBasePath(petstoreBasePath)
-        );
+        return new UserApi(apiClient());
     }
 
+    /**
+     * One api client per api, so authentication can be configured per api.
+     */
+    private ApiClient apiClient() {
+        return new ApiClient(webclient, objectMapper, ApiClient.createDefaultDateFormat())
+            .setBasePath(petstoreBasePath)
+            .setPreferredAccept(binaryFormat.getMediaType());
+    }
 }
@@ -0,0 +1,153 @@
+package com.paloit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * CBOR and Smile next to JSON. The format is negotiated with the Accept header of the request, a
+ * client without binary format in its Accept header keeps getting JSON.
+ *
+ * The servlet server writes them with the message converters, the reactive server and the
+ * webclient of the generated clients with the codecs. Both use the mappers of the JacksonConfig.
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    /** Smile has no constant in MediaType. */
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    /**
+     * Format the generated clients prefer, selected with the {@code client.http.binary-format} property.
+     */
+    public enum BinaryFormat {
+        /** JSON only. */
+        NONE(null),
+        CBOR(MediaType.APPLICATION_CBOR),
+        SMILE(APPLICATION_SMILE);
+
+        private final MediaType mediaType;
+
+        BinaryFormat(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        /**
+         * @return media type of the format, null for NONE
+         */
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    /**
+     * Replaces the CBOR converter which Spring MVC adds with a default mapper.
+     *
+     * @param cborMapper cbor objectmapper defined in JacksonConfig
+     * @return cbor converter
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(@Qualifier("cborMapper") ObjectMapper cborMapper) {
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+
+    /**
+     * Replaces the Smile converter which Spring MVC adds with a default mapper.
+     *
+     * @param smileMapper smile objectmapper defined in JacksonConfig
+     * @return smile converter
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(@Qualifier("smileMapper") ObjectMapper smileMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper);
+    }
+
+    /**
+     * Codecs of the reactive server and of the webclient builder, which Spring Boot both
+     * customizes with every codec customizer. Smile replaces the default codecs, CBOR has none.
+     *
+     * @param cborMapper cbor objectmapper defined in JacksonConfig
+     * @param smileMapper smile objectmapper defined in JacksonConfig
+     * @return codec customizer
+     */
+    @Bean
+    public CodecCustomizer binaryFormatCodecCustomizer(
+        @Qualifier("cborMapper") ObjectMapper cborMapper,
+        @Qualifier("smileMapper") ObjectMapper smileMapper
+    ) {
+        return configurer -> {
+            // Without media types the codecs of a mapper claim JSON and write the binary format for it
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, APPLICATION_SMILE));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, APPLICATION_SMILE));
+            // With default config, so the max in memory size applies as well
+            configurer.customCodecs().registerWithDefaultConfig(new CborEncoder(cborMapper));
+            configurer.customCodecs().registerWithDefaultConfig(new CborDecoder(cborMapper));
+        };
+    }
+
+    /**
+     * Jackson has no non-blocking CBOR parser, so the Spring codecs refuse a Flux. The pets of a
+     * search are collected and written as one CBOR array instead.
+     */
+    static final class CborEncoder extends Jackson2CborEncoder {
+
+        CborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+            ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            if (inputStream instanceof Mono) {
+                return Mono.from(inputStream)
+                    .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints))
+                    .flux();
+            }
+            ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+            return Flux.from(inputStream)
+                .collectList()
+                .map(list -> encodeValue(list, bufferFactory, listType, mimeType, hints))
+                .flux();
+        }
+    }
+
+    /**
+     * Reads a Flux from one buffered CBOR array, the counterpart of the CborEncoder.
+     */
+    static final class CborDecoder extends Jackson2CborDecoder {
+
+        CborDecoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType,
+            MimeType mimeType, Map<String, Object> hints) {
+            ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+            return decodeToMono(input, listType, mimeType, hints)
+                .flatMapIterable(list -> (List<Object>) list);
+        }
+    }
+}
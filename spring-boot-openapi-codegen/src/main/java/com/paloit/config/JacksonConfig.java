@@ -4,37 +4,119 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.extern.slf4j.Slf4j;
+import org.openapitools.jackson.nullable.JsonNullableModule;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+/**
+ * The one object mapper of the application. Spring MVC, the webclient codecs and the generated
+ * clients all use it, so serializers are built and cached once per type.
+ *
+ * The CBOR and Smile mappers are configured the same way and only used by the converters and
+ * codecs of the binary formats, see BinaryFormatConfig.
+ */
+@Slf4j
 @Configuration
 public class JacksonConfig {
 
+    /**
+     * How Jackson reads and writes bean properties, selected with the {@code petstore.jackson.accessors} property.
+     */
+    public enum Accessors {
+        /** Reflection, Jackson's default. */
+        REFLECTION,
+        /** Accessors generated as lambdas with LambdaMetafactory, recommended on Java 11 and later. */
+        BLACKBIRD,
+        /** Accessors generated as bytecode, for Java 8. Logs illegal access warnings on later versions. */
+        AFTERBURNER
+    }
+
     /**
      * Global object mapper with support for Java Date/Time API and
      * timestamp settings.
      *
      * @param builder jackson2objectmapperbuilder
+     * @param accessors how bean properties are accessed
      * @return global objectmapper
      */
     @Autowired
     @Bean
     @Primary
-    public ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
-        ObjectMapper mapper = builder.createXmlMapper(false).build();
+    public ObjectMapper objectMapper(
+        Jackson2ObjectMapperBuilder builder,
+        @Value("${petstore.jackson.accessors:REFLECTION}") Accessors accessors
+    ) {
+        ObjectMapper mapper = configure(builder.createXmlMapper(false).build(), accessors);
+        log.debug("Object mapper with {} accessors", accessors);
 
+        return mapper;
+    }
+
+    /**
+     * Object mapper writing and reading CBOR, configured like the JSON object mapper.
+     *
+     * @param builder jackson2objectmapperbuilder, a new instance per injection point
+     * @param accessors how bean properties are accessed
+     * @return cbor objectmapper
+     */
+    @Bean
+    public ObjectMapper cborMapper(
+        Jackson2ObjectMapperBuilder builder,
+        @Value("${petstore.jackson.accessors:REFLECTION}") Accessors accessors
+    ) {
+        return configure(builder.createXmlMapper(false).factory(new CBORFactory()).build(), accessors);
+    }
+
+    /**
+     * Object mapper writing and reading Smile, configured like the JSON object mapper.
+     *
+     * @param builder jackson2objectmapperbuilder, a new instance per injection point
+     * @param accessors how bean properties are accessed
+     * @return smile objectmapper
+     */
+    @Bean
+    public ObjectMapper smileMapper(
+        Jackson2ObjectMapperBuilder builder,
+        @Value("${petstore.jackson.accessors:REFLECTION}") Accessors accessors
+    ) {
+        return configure(builder.createXmlMapper(false).factory(new SmileFactory()).build(), accessors);
+    }
+
+    /**
+     * Modules, features and accessors shared by the mappers of all formats.
+     */
+    static ObjectMapper configure(ObjectMapper mapper, Accessors accessors) {
         JavaTimeModule timeModule = new JavaTimeModule();
         mapper.registerModule(timeModule);
         mapper.registerModule(new Jdk8Module());
+        // Used by the generated clients
+        mapper.registerModule(new JsonNullableModule());
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
         mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
+        switch (accessors) {
+            case BLACKBIRD:
+                mapper.registerModule(new BlackbirdModule());
+                break;
+            case AFTERBURNER:
+                mapper.registerModule(new AfterburnerModule());
+                break;
+            case REFLECTION:
+            default:
+                break;
+        }
         return mapper;
     }
 }
@@ -0,0 +1,51 @@
+package com.paloit.config;
+
+import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
+import org.springframework.context.ResourceLoaderAware;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.filter.TypeFilter;
+
+/**
+ * Excludes the petstore server of the other mode from component scanning.
+ *
+ * The server is generated twice: blocking for Spring MVC in {@code com.paloit.server.petstore.api}
+ * and reactive for WebFlux in {@code com.paloit.server.petstore.reactive.api}. Both map the same
+ * paths, so only the controllers and delegates of the mode the application runs in may be beans.
+ * The mode is selected at startup with {@code spring.main.web-application-type}: {@code servlet},
+ * the default, or {@code reactive}.
+ */
+public class ServerModeFilter implements TypeFilter, ResourceLoaderAware {
+
+    static final String SERVLET_API_PACKAGE = "com.paloit.server.petstore.api.";
+    static final String REACTIVE_API_PACKAGE = "com.paloit.server.petstore.reactive.api.";
+
+    private String excludedPackage = REACTIVE_API_PACKAGE;
+
+    /**
+     * @param resourceLoader the application context being refreshed
+     */
+    @Override
+    public void setResourceLoader(ResourceLoader resourceLoader) {
+        excludedPackage = resourceLoader instanceof ReactiveWebApplicationContext ? SERVLET_API_PACKAGE : REACTIVE_API_PACKAGE;
+    }
+
+    /**
+     * @return whether the class is part of the api of the other mode or implements one of its delegates
+     */
+    @Override
+    public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+        ClassMetadata metadata = metadataReader.getClassMetadata();
+        if (metadata.getClassName().startsWith(excludedPackage)) {
+            return true;
+        }
+        for (String interfaceName : metadata.getInterfaceNames()) {
+            if (interfaceName.startsWith(excludedPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
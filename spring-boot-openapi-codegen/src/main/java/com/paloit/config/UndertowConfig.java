@@ -0,0 +1,251 @@
+package com.paloit.config;
+
+import io.undertow.Undertow;
+import io.undertow.UndertowOptions;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.undertow.ConfigurableUndertowWebServerFactory;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+import org.xnio.OptionMap;
+import org.xnio.Options;
+import org.xnio.Xnio;
+import org.xnio.XnioWorker;
+
+/**
+ * Undertow configuration of the server, in servlet and in reactive mode.
+ *
+ * The {@code petstore.server.undertow} block sizes the server, see {@link UndertowTuning}. It
+ * replaces the {@code server.undertow} threads and buffers of Spring Boot, as the server runs on
+ * the XNIO worker created here. Owning the worker gives access to the utilisation of its pool.
+ */
+@Slf4j
+@Configuration
+public class UndertowConfig {
+
+    /**
+     * Threads running the servlet requests, selected with the {@code petstore.server.request-threads} property.
+     */
+    public enum RequestThreads {
+        /** The fixed worker pool of Undertow, sized by {@code petstore.server.undertow.worker-threads}. */
+        WORKER,
+        /**
+         * A new virtual thread per request, Java 21 and later. A request blocked on I/O does not
+         * hold a platform thread, so slow requests no longer queue behind a saturated pool.
+         */
+        VIRTUAL
+    }
+
+    /**
+     * Sizes of the server, missing ones derived from the cores and the heap. Logged at startup.
+     *
+     * @param ioThreads I/O threads accepting connections and parsing requests
+     * @param workerThreads worker threads running blocking requests
+     * @param bufferSize size of the buffers of request and response bodies
+     * @param directBuffers whether the buffers are allocated outside the heap
+     * @param maxEntitySize maximum size of a request body
+     * @param maxConnections maximum of open connections, further ones wait in the accept backlog
+     * @param http2 enables HTTP/2, over TLS or as h2c upgrade
+     * @return validated sizes
+     */
+    @Bean
+    public UndertowTuning undertowTuning(
+        @Value("${petstore.server.undertow.io-threads:#{null}}") Integer ioThreads,
+        @Value("${petstore.server.undertow.worker-threads:#{null}}") Integer workerThreads,
+        @Value("${petstore.server.undertow.buffer-size:#{null}}") DataSize bufferSize,
+        @Value("${petstore.server.undertow.direct-buffers:#{null}}") Boolean directBuffers,
+        @Value("${petstore.server.undertow.max-entity-size:#{null}}") DataSize maxEntitySize,
+        @Value("${petstore.server.undertow.max-connections:#{null}}") Integer maxConnections,
+        @Value("${petstore.server.undertow.http2:false}") boolean http2
+    ) {
+        Runtime runtime = Runtime.getRuntime();
+        UndertowTuning tuning = UndertowTuning.of(ioThreads, workerThreads, bufferSize, directBuffers, maxEntitySize,
+            maxConnections, http2, runtime.availableProcessors(), runtime.maxMemory());
+        log.info("Undertow with {}", tuning);
+        return tuning;
+    }
+
+    /**
+     * XNIO worker of the server with its I/O threads and worker pool. Shut down with the
+     * application context, after the server has stopped.
+     *
+     * @param undertowTuning sizes of the server
+     * @return worker
+     */
+    @Bean(destroyMethod = "shutdown")
+    public XnioWorker undertowWorker(UndertowTuning undertowTuning) {
+        try {
+            // Same options as the worker Undertow creates itself
+            return Xnio.getInstance(Undertow.class.getClassLoader()).createWorker(OptionMap.builder()
+                .set(Options.WORKER_NAME, "undertow")
+                .set(Options.WORKER_IO_THREADS, undertowTuning.getIoThreads())
+                .set(Options.WORKER_TASK_CORE_THREADS, undertowTuning.getWorkerThreads())
+                .set(Options.WORKER_TASK_MAX_THREADS, undertowTuning.getWorkerThreads())
+                .set(Options.TCP_NODELAY, true)
+                .set(Options.CORK, true)
+                .getMap());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create the Undertow worker", e);
+        }
+    }
+
+    /**
+     * Applies the sizes after the customizer of Spring Boot, so they win over {@code server.undertow}.
+     *
+     * @param undertowTuning sizes of the server
+     * @param undertowWorker worker of the server
+     * @return customizer of the servlet and the reactive server
+     */
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableUndertowWebServerFactory> undertowTuningCustomizer(
+        UndertowTuning undertowTuning,
+        XnioWorker undertowWorker
+    ) {
+        return new TuningCustomizer(undertowTuning, undertowWorker);
+    }
+
+    private static class TuningCustomizer implements WebServerFactoryCustomizer<ConfigurableUndertowWebServerFactory>, Ordered {
+
+        private final UndertowTuning tuning;
+        private final XnioWorker worker;
+
+        TuningCustomizer(UndertowTuning tuning, XnioWorker worker) {
+            this.tuning = tuning;
+            this.worker = worker;
+        }
+
+        @Override
+        public void customize(ConfigurableUndertowWebServerFactory factory) {
+            factory.setIoThreads(tuning.getIoThreads());
+            factory.setWorkerThreads(tuning.getWorkerThreads());
+            factory.setBufferSize(tuning.getBufferSize());
+            factory.setUseDirectBuffers(tuning.isDirectBuffers());
+            factory.addBuilderCustomizers(builder -> builder
+                .setWorker(worker)
+                .setServerOption(UndertowOptions.MAX_ENTITY_SIZE, tuning.getMaxEntitySize())
+                .setServerOption(UndertowOptions.ENABLE_HTTP2, tuning.isHttp2())
+                .setSocketOption(Options.CONNECTION_HIGH_WATER, tuning.getMaxConnections())
+                .setSocketOption(Options.CONNECTION_LOW_WATER, tuning.getConnectionLowWater()));
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    /**
+     * Runs the servlet requests on virtual threads if selected. Undertow still parses requests on
+     * its I/O threads, only the dispatch to the servlet, which used to go to the worker pool, goes
+     * to the virtual thread executor. The customizer owns the executor, which is shut down with the
+     * application context after the server has stopped. It is not exposed as an executor bean, which
+     * would replace the task executor of Spring Boot.
+     *
+     * @param undertowWorker worker of the server, running the servlet requests unless virtual threads are used
+     * @param requestThreads threads running the servlet requests
+     * @param virtualThreadFallback whether the worker pool is used when virtual threads are not available,
+     *                              otherwise the startup fails
+     * @return customizer of the undertow deployment
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public RequestThreadsCustomizer requestThreadsCustomizer(
+        XnioWorker undertowWorker,
+        @Value("${petstore.server.request-threads:WORKER}") RequestThreads requestThreads,
+        @Value("${petstore.server.virtual-thread-fallback:true}") boolean virtualThreadFallback
+    ) {
+        if (requestThreads == RequestThreads.WORKER) {
+            return new RequestThreadsCustomizer(undertowWorker, null);
+        }
+        Optional<ExecutorService> executor = VirtualThreads.newThreadPerTaskExecutor("undertow-virtual-");
+        if (executor.isEmpty()) {
+            if (!virtualThreadFallback) {
+                throw new IllegalStateException("Virtual threads are not available on Java " + Runtime.version()
+                    + ", set petstore.server.virtual-thread-fallback to use the worker pool");
+            }
+            log.warn("Virtual threads are not available on Java {}, requests run on the worker pool", Runtime.version());
+            return new RequestThreadsCustomizer(undertowWorker, null);
+        }
+        log.info("Requests run on virtual threads");
+        return new RequestThreadsCustomizer(undertowWorker, executor.get());
+    }
+
+    /**
+     * Sets the executor of the servlet requests and shuts the virtual thread executor, if any, down
+     * with the context. Counts the servlet tasks running on either executor, as the worker pool of
+     * XNIO does not report its busy threads.
+     */
+    public static class RequestThreadsCustomizer implements WebServerFactoryCustomizer<UndertowServletWebServerFactory> {
+
+        private final Executor worker;
+        private final ExecutorService virtualExecutor;
+        private final AtomicInteger running = new AtomicInteger();
+        private final LongAdder started = new LongAdder();
+
+        RequestThreadsCustomizer(Executor worker, ExecutorService virtualExecutor) {
+            this.worker = worker;
+            this.virtualExecutor = virtualExecutor;
+        }
+
+        /**
+         * @return threads the servlet requests actually run on
+         */
+        public RequestThreads getRequestThreads() {
+            return virtualExecutor == null ? RequestThreads.WORKER : RequestThreads.VIRTUAL;
+        }
+
+        /**
+         * @return servlet tasks running on the request threads
+         */
+        public int getRunningRequests() {
+            return running.get();
+        }
+
+        /**
+         * @return servlet tasks started on the request threads since startup
+         */
+        public long getStartedRequests() {
+            return started.sum();
+        }
+
+        @Override
+        public void customize(UndertowServletWebServerFactory factory) {
+            // The worker pool is the default of Undertow as well, set here to count its tasks
+            Executor counting = this::execute;
+            factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo
+                .setExecutor(counting)
+                .setAsyncExecutor(counting));
+        }
+
+        private void execute(Runnable task) {
+            Executor executor = virtualExecutor != null ? virtualExecutor : worker;
+            executor.execute(() -> {
+                started.increment();
+                running.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+
+        public void shutdown() {
+            if (virtualExecutor != null) {
+                virtualExecutor.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.paloit.config;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Sizes of the Undertow server, from the {@code petstore.server.undertow} block of the
+ * application.yml. Every size which is not set is derived from the available cores and the
+ * maximum heap of the JVM at startup:
+ * <ul>
+ *     <li>io-threads: one per core, at least 2</li>
+ *     <li>worker-threads: 8 per I/O thread, as Undertow does</li>
+ *     <li>buffer-size: 16KB, 1KB with less than 128MB of heap, as Undertow does</li>
+ *     <li>direct-buffers: with at least 64MB of heap, as Undertow does</li>
+ *     <li>max-entity-size: unlimited, as Undertow does</li>
+ *     <li>max-connections: 64KB of heap per connection, at least 100</li>
+ * </ul>
+ *
+ * The max-entity-size applies to every path, the streaming {@code /user/import} included, whose
+ * body is not held in memory and may be far larger than the heap. It is therefore not derived from
+ * the heap, a cap set here rejects larger imports with 413 as well.
+ */
+public final class UndertowTuning {
+
+    static final String PREFIX = "petstore.server.undertow.";
+
+    private static final long MB = 1024 * 1024;
+    private static final long HEAP_PER_CONNECTION = 64 * 1024;
+    /** Max-entity-size of Undertow when not set. */
+    static final long UNLIMITED = -1;
+
+    private final int ioThreads;
+    private final int workerThreads;
+    private final int bufferSize;
+    private final boolean directBuffers;
+    private final long maxEntitySize;
+    private final int maxConnections;
+    private final boolean http2;
+
+    private UndertowTuning(int ioThreads, int workerThreads, int bufferSize, boolean directBuffers,
+        long maxEntitySize, int maxConnections, boolean http2) {
+        this.ioThreads = ioThreads;
+        this.workerThreads = workerThreads;
+        this.bufferSize = bufferSize;
+        this.directBuffers = directBuffers;
+        this.maxEntitySize = maxEntitySize;
+        this.maxConnections = maxConnections;
+        this.http2 = http2;
+    }
+
+    /**
+     * Validates the configured sizes and derives the missing ones.
+     *
+     * @param ioThreads configured I/O threads or null
+     * @param workerThreads configured worker threads or null
+     * @param bufferSize configured buffer size or null
+     * @param directBuffers whether buffers are allocated outside the heap, or null
+     * @param maxEntitySize configured maximum request body size, or null for unlimited
+     * @param maxConnections configured maximum of open connections or null
+     * @param http2 whether HTTP/2 is enabled
+     * @param cores available cores
+     * @param maxHeap maximum heap in bytes
+     * @return sizes of the server
+     * @throws IllegalArgumentException if a configured size is out of range
+     */
+    static UndertowTuning of(Integer ioThreads, Integer workerThreads, DataSize bufferSize, Boolean directBuffers,
+        DataSize maxEntitySize, Integer maxConnections, boolean http2, int cores, long maxHeap) {
+        int io = ioThreads != null ? check("io-threads", ioThreads, 1, 1024) : Math.max(2, cores);
+        int worker = workerThreads != null ? check("worker-threads", workerThreads, 1, 10_000) : io * 8;
+        int buffer = bufferSize != null
+            ? (int) check("buffer-size", bufferSize.toBytes(), 512, MB)
+            : maxHeap < 128 * MB ? 1024 : 16 * 1024;
+        boolean direct = directBuffers != null ? directBuffers : maxHeap >= 64 * MB;
+        long entity = maxEntitySize != null
+            ? check("max-entity-size", maxEntitySize.toBytes(), 1, Long.MAX_VALUE)
+            : UNLIMITED;
+        int connections = maxConnections != null
+            ? check("max-connections", maxConnections, 1, 1_000_000)
+            : (int) Math.min(1_000_000, Math.max(100, maxHeap / HEAP_PER_CONNECTION));
+        return new UndertowTuning(io, worker, buffer, direct, entity, connections, http2);
+    }
+
+    private static int check(String property, int value, int min, int max) {
+        return (int) check(property, (long) value, min, max);
+    }
+
+    private static long check(String property, long value, long min, long max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(PREFIX + property + " must be between " + min + " and " + max + ", was " + value);
+        }
+        return value;
+    }
+
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * @return size of the buffers in bytes
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public boolean isDirectBuffers() {
+        return directBuffers;
+    }
+
+    /**
+     * @return maximum size of a request body in bytes, -1 if unlimited
+     */
+    public long getMaxEntitySize() {
+        return maxEntitySize;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Accepting stops at max-connections and resumes once the open connections dropped to 90% of
+     * it, so the server does not toggle accepting on every connection closed at the limit.
+     *
+     * @return open connections below which new ones are accepted again
+     */
+    public int getConnectionLowWater() {
+        return Math.max(1, maxConnections * 9 / 10);
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    @Override
+    public String toString() {
+        return "io-threads=" + ioThreads
+            + ", worker-threads=" + workerThreads
+            + ", buffer-size=" + bufferSize
+            + ", direct-buffers=" + directBuffers
+            + ", max-entity-size=" + maxEntitySize
+            + ", max-connections=" + maxConnections
+            + ", http2=" + http2;
+    }
+}
@@ -0,0 +1,31 @@
+package com.paloit.config;
+
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.accept.HeaderContentTypeResolver;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Spring WebFlux configuration of the petstore server, used when the server runs on WebFlux.
+ */
+@Configuration
+public class WebFluxConfig implements WebFluxConfigurer {
+
+    private static final List<MediaType> JSON_FIRST = List.of(MediaType.APPLICATION_JSON, MediaType.ALL);
+
+    /**
+     * A request accepting anything gets JSON. WebFlux takes the first media type an operation
+     * produces without checking for an encoder, which is XML for most operations and cannot be
+     * written for the models.
+     */
+    @Override
+    public void configureContentTypeResolver(RequestedContentTypeResolverBuilder builder) {
+        HeaderContentTypeResolver headerResolver = new HeaderContentTypeResolver();
+        builder.resolver(exchange -> {
+            List<MediaType> accepted = headerResolver.resolveMediaTypes(exchange);
+            return accepted.equals(List.of(MediaType.ALL)) ? JSON_FIRST : accepted;
+        });
+    }
+}
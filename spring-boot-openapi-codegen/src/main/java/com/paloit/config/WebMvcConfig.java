@@ -0,0 +1,49 @@
+package com.paloit.config;
+
+import com.paloit.server.petstore.api.PetApi;
+import com.paloit.server.petstore.api.StoreApi;
+import com.paloit.server.petstore.api.UserApi;
+import com.paloit.server.petstore.metrics.OperationMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration of the petstore server.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean percentileHistogram;
+
+    /**
+     * @param meterRegistry registry of the operation metrics
+     * @param percentileHistogram whether the operation timers publish histogram buckets
+     */
+    public WebMvcConfig(
+        MeterRegistry meterRegistry,
+        @Value("${petstore.metrics.percentile-histogram:false}") boolean percentileHistogram
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    /**
+     * A request accepting anything gets JSON. Spring MVC takes the first media type an operation
+     * produces, which is XML for most operations and cannot be written for the models.
+     */
+    @Override
+    public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
+        configurer.defaultContentType(MediaType.APPLICATION_JSON, MediaType.ALL);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new OperationMetricsInterceptor(meterRegistry, percentileHistogram, PetApi.class, StoreApi.class, UserApi.class));
+    }
+}
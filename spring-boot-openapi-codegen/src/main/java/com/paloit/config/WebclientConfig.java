@@ -1,10 +1,23 @@
 package com.paloit.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paloit.client.cache.ResponseCacheFilter;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * Webclient config used in generated clients
@@ -13,25 +26,168 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Configuration
 public class WebclientConfig {
 
+    private static final String PREFIX = "client.http.";
+
     private final ObjectMapper objectMapper;
+    private final int maxConnections;
+    private final int pendingAcquireMaxCount;
+    private final Duration pendingAcquireTimeout;
+    private final Duration maxIdleTime;
+    private final Duration maxLifeTime;
+    private final Duration evictionInterval;
+    private final Duration connectTimeout;
+    private final Duration responseTimeout;
+    private final boolean tcpNoDelay;
+    private final boolean keepAlive;
+    private final boolean http2;
+    private final DataSize maxInMemorySize;
+    private final boolean compression;
 
     /**
-     * Autowire Jackson object mapper instance from the JacksonConfig using constructor injection
+     * Autowire Jackson object mapper instance from the JacksonConfig and the connection settings
+     * of the client.http block in the application.yml using constructor injection
      * @param serverMapper objectmapper defined in JacksonConfig.
+     * @param maxConnections maximum number of connections per remote host
+     * @param pendingAcquireMaxCount maximum number of requests waiting for a connection
+     * @param pendingAcquireTimeout maximum time a request waits for a connection
+     * @param maxIdleTime idle connections are closed after this time
+     * @param maxLifeTime connections are closed after this time, so DNS changes are picked up
+     * @param evictionInterval interval of the background check for idle and expired connections
+     * @param connectTimeout timeout for opening a connection
+     * @param responseTimeout timeout between sending a request and receiving the response
+     * @param tcpNoDelay disables Nagle's algorithm, small requests are sent without delay
+     * @param keepAlive enables TCP keep-alive probes on pooled connections
+     * @param http2 negotiates HTTP/2 with HTTP/1.1 fallback, requires an https base path
+     * @param maxInMemorySize maximum size of a buffered response body
+     * @param compression accepts and decodes compressed responses
+     * @throws IllegalArgumentException if a count, duration or size is not positive
      */
-    public WebclientConfig(ObjectMapper serverMapper) {
+    public WebclientConfig(
+        ObjectMapper serverMapper,
+        @Value("${client.http.max-connections:200}") int maxConnections,
+        @Value("${client.http.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+        @Value("${client.http.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+        @Value("${client.http.max-idle-time:30s}") Duration maxIdleTime,
+        @Value("${client.http.max-life-time:5m}") Duration maxLifeTime,
+        @Value("${client.http.eviction-interval:30s}") Duration evictionInterval,
+        @Value("${client.http.connect-timeout:10s}") Duration connectTimeout,
+        @Value("${client.http.response-timeout:10s}") Duration responseTimeout,
+        @Value("${client.http.tcp-no-delay:true}") boolean tcpNoDelay,
+        @Value("${client.http.keep-alive:true}") boolean keepAlive,
+        @Value("${client.http.http2:false}") boolean http2,
+        @Value("${client.http.max-in-memory-size:2MB}") DataSize maxInMemorySize,
+        @Value("${client.http.compression:true}") boolean compression
+    ) {
         this.objectMapper = serverMapper;
+        this.maxConnections = requirePositive("max-connections", maxConnections);
+        this.pendingAcquireMaxCount = requirePositive("pending-acquire-max-count", pendingAcquireMaxCount);
+        this.pendingAcquireTimeout = requirePositive("pending-acquire-timeout", pendingAcquireTimeout);
+        this.maxIdleTime = requirePositive("max-idle-time", maxIdleTime);
+        this.maxLifeTime = requirePositive("max-life-time", maxLifeTime);
+        this.evictionInterval = requirePositive("eviction-interval", evictionInterval);
+        this.connectTimeout = requirePositive("connect-timeout", connectTimeout);
+        this.responseTimeout = requirePositive("response-timeout", responseTimeout);
+        this.tcpNoDelay = tcpNoDelay;
+        this.keepAlive = keepAlive;
+        this.http2 = http2;
+        this.maxInMemorySize = requirePositive("max-in-memory-size", maxInMemorySize);
+        this.compression = compression;
+        if (connectTimeout.toMillis() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(PREFIX + "connect-timeout must be at most " + Integer.MAX_VALUE + "ms, was " + connectTimeout);
+        }
+    }
+
+    private static int requirePositive(String property, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(PREFIX + property + " must be positive, was " + value);
+        }
+        return value;
+    }
+
+    private static Duration requirePositive(String property, Duration value) {
+        if (value.isNegative() || value.isZero()) {
+            throw new IllegalArgumentException(PREFIX + property + " must be positive, was " + value);
+        }
+        return value;
+    }
+
+    private static DataSize requirePositive(String property, DataSize value) {
+        if (value.isNegative() || value.toBytes() == 0 || value.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(PREFIX + property + " must be between 1B and " + Integer.MAX_VALUE + "B, was " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Connection pool shared by all generated clients. Disposed with the application context.
+     *
+     * @return connection provider
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider webClientConnectionProvider() {
+        return ConnectionProvider.builder("webclient")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .maxIdleTime(maxIdleTime)
+            .maxLifeTime(maxLifeTime)
+            .evictInBackground(evictionInterval)
+            .build();
+    }
+
+    /**
+     * Cache of GET responses, only created when client.http.cache.enabled is true.
+     *
+     * @param maxSize maximum size of the stored responses
+     * @param ttl time after which a stored response is removed
+     * @param defaultFreshness time a response without max-age or Expires is used without revalidation
+     * @return response cache filter
+     */
+    @Bean
+    @ConditionalOnProperty(name = "client.http.cache.enabled", havingValue = "true")
+    public ResponseCacheFilter webClientResponseCache(
+        @Value("${client.http.cache.max-size:16MB}") DataSize maxSize,
+        @Value("${client.http.cache.ttl:10m}") Duration ttl,
+        @Value("${client.http.cache.default-freshness:0s}") Duration defaultFreshness
+    ) {
+        log.debug("Webclient response cache: {} for at most {}", maxSize, ttl);
+        return new ResponseCacheFilter(maxSize, ttl, defaultFreshness);
     }
 
     /**
      * Create a new webclient bean instance.
      *
      * @param webClientBuilder the webclient builder
+     * @param webClientConnectionProvider connection pool
+     * @param webClientResponseCache response cache, if enabled
      * @return webclient bean
      */
     @Bean
-    public WebClient generalWebClient(WebClient.Builder webClientBuilder) {
-        return WebClient.builder()
+    public WebClient generalWebClient(WebClient.Builder webClientBuilder, ConnectionProvider webClientConnectionProvider,
+        ObjectProvider<ResponseCacheFilter> webClientResponseCache) {
+        HttpClient httpClient = HttpClient.create(webClientConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .option(ChannelOption.TCP_NODELAY, tcpNoDelay)
+            .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+            .responseTimeout(responseTimeout)
+            .compress(compression);
+        if (http2) {
+            // HTTP/2 is negotiated with ALPN during the TLS handshake
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        log.debug("Webclient pool: {} connections per host, {} pending, HTTP/2 {}, compression {}",
+            maxConnections, pendingAcquireMaxCount, http2, compression);
+
+        webClientResponseCache.ifAvailable(webClientBuilder::filter);
+
+        return webClientBuilder
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .codecs(configurer -> {
+                // Default mime types, so problem+json and ndjson responses decode as well
+                configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                configurer.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes());
+            })
             .build();
     }
 }
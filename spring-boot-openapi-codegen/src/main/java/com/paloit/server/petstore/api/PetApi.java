@@ -10,7 +10,6 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
-import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,6 +20,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -48,8 +48,8 @@ public interface PetApi {
         @RequestMapping(
         method = RequestMethod.POST,
         value = "/pet",
-        produces = { "application/xml", "application/json" },
-        consumes = { "application/json", "application/xml", "application/x-www-form-urlencoded" }
+        produces = { "application/xml", "application/json", "application/cbor", "application/x-jackson-smile" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile", "application/xml", "application/x-www-form-urlencoded" }
     )
     default ResponseEntity<Pet> addPet(
 
@@ -85,6 +85,8 @@ public interface PetApi {
      * Multiple status values can be provided with comma separated strings
      *
      * @param status Status values that need to be considered for filter (optional)
+     * @param limit Maximum number of pets per page, at most 1000. Without limit all pets are returned. (optional)
+     * @param cursor Opaque cursor from the X-Next-Cursor header of the previous page (optional)
      * @return successful operation (status code 200)
      *         or Invalid status value (status code 400)
      */
@@ -93,12 +95,16 @@ public interface PetApi {
         @RequestMapping(
         method = RequestMethod.GET,
         value = "/pet/findByStatus",
-        produces = { "application/xml", "application/json" }
+        produces = { "application/xml", "application/json", "application/cbor", "application/x-jackson-smile", "application/x-ndjson" }
     )
     default ResponseEntity<List<Pet>> findPetsByStatus(@Parameter(name = "status", description = "Status values that need to be considered for filter", schema = @Schema(allowableValues = "available, pending, sold")) @Valid @RequestParam(value = "status", required = false) String status
 
+,@Parameter(name = "limit", description = "Maximum number of pets per page, at most 1000. Without limit all pets are returned.") @Valid @RequestParam(value = "limit", required = false) Integer limit
+
+,@Parameter(name = "cursor", description = "Opaque cursor from the X-Next-Cursor header of the previous page") @Valid @RequestParam(value = "cursor", required = false) String cursor
+
 ) {
-        return getDelegate().findPetsByStatus(status);
+        return getDelegate().findPetsByStatus(status, limit, cursor);
     }
 
 
@@ -107,6 +113,8 @@ public interface PetApi {
      * Multiple tags can be provided with comma separated strings. Use tag1, tag2, tag3 for testing.
      *
      * @param tags Tags to filter by (optional)
+     * @param limit Maximum number of pets per page, at most 1000. Without limit all pets are returned. (optional)
+     * @param cursor Opaque cursor from the X-Next-Cursor header of the previous page (optional)
      * @return successful operation (status code 200)
      *         or Invalid tag value (status code 400)
      */
@@ -115,12 +123,16 @@ public interface PetApi {
         @RequestMapping(
         method = RequestMethod.GET,
         value = "/pet/findByTags",
-        produces = { "application/xml", "application/json" }
+        produces = { "application/xml", "application/json", "application/cbor", "application/x-jackson-smile", "application/x-ndjson" }
     )
     default ResponseEntity<List<Pet>> findPetsByTags(@Parameter(name = "tags", description = "Tags to filter by") @Valid @RequestParam(value = "tags", required = false) List<String> tags
 
+,@Parameter(name = "limit", description = "Maximum number of pets per page, at most 1000. Without limit all pets are returned.") @Valid @RequestParam(value = "limit", required = false) Integer limit
+
+,@Parameter(name = "cursor", description = "Opaque cursor from the X-Next-Cursor header of the previous page") @Valid @RequestParam(value = "cursor", required = false) String cursor
+
 ) {
-        return getDelegate().findPetsByTags(tags);
+        return getDelegate().findPetsByTags(tags, limit, cursor);
     }
 
 
@@ -138,7 +150,7 @@ public interface PetApi {
         @RequestMapping(
         method = RequestMethod.GET,
         value = "/pet/{petId}",
-        produces = { "application/xml", "application/json" }
+        produces = { "application/xml", "application/json", "application/cbor", "application/x-jackson-smile" }
     )
     default ResponseEntity<Pet> getPetById(@Parameter(name = "petId", description = "ID of pet to return", required = true) @PathVariable("petId") Long petId
 
@@ -162,8 +174,8 @@ public interface PetApi {
         @RequestMapping(
         method = RequestMethod.PUT,
         value = "/pet",
-        produces = { "application/xml", "application/json" },
-        consumes = { "application/json", "application/xml", "application/x-www-form-urlencoded" }
+        produces = { "application/xml", "application/json", "application/cbor", "application/x-jackson-smile" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile", "application/xml", "application/x-www-form-urlencoded" }
     )
     default ResponseEntity<Pet> updatePet(
 
@@ -66,11 +66,15 @@ public interface PetApiDelegate {
      * Multiple status values can be provided with comma separated strings
      *
      * @param status Status values that need to be considered for filter (optional)
+     * @param limit Maximum number of pets per page, at most 1000. Without limit all pets are returned. (optional)
+     * @param cursor Opaque cursor from the X-Next-Cursor header of the previous page (optional)
      * @return successful operation (status code 200)
      *         or Invalid status value (status code 400)
      * @see PetApi#findPetsByStatus
      */
-    default ResponseEntity<List<Pet>> findPetsByStatus(String status) {
+    default ResponseEntity<List<Pet>> findPetsByStatus(String status,
+        Integer limit,
+        String cursor) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
@@ -94,11 +98,15 @@ public interface PetApiDelegate {
      * Multiple tags can be provided with comma separated strings. Use tag1, tag2, tag3 for testing.
      *
      * @param tags Tags to filter by (optional)
+     * @param limit Maximum number of pets per page, at most 1000. Without limit all pets are returned. (optional)
+     * @param cursor Opaque cursor from the X-Next-Cursor header of the previous page (optional)
      * @return successful operation (status code 200)
      *         or Invalid tag value (status code 400)
      * @see PetApi#findPetsByTags
      */
-    default ResponseEntity<List<Pet>> findPetsByTags(List<String> tags) {
+    default ResponseEntity<List<Pet>> findPetsByTags(List<String> tags,
+        Integer limit,
+        String cursor) {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
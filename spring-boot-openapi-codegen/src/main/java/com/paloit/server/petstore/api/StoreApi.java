@@ -10,7 +10,6 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
-import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 
@@ -64,7 +64,7 @@ public interface StoreApi {
         @RequestMapping(
         method = RequestMethod.GET,
         value = "/store/inventory",
-        produces = { "application/json" }
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
     )
     default ResponseEntity<Map<String, Integer>> getInventory() {
         return getDelegate().getInventory();
@@ -84,7 +84,7 @@ public interface StoreApi {
         @RequestMapping(
         method = RequestMethod.GET,
         value = "/store/order/{orderId}",
-        produces = { "application/xml", "application/json" }
+        produces = { "application/xml", "application/json", "application/cbor", "application/x-jackson-smile" }
     )
     default ResponseEntity<Order> getOrderById(@Parameter(name = "orderId", description = "ID of order that needs to be fetched", required = true) @PathVariable("orderId") Long orderId
 
@@ -105,8 +105,8 @@ public interface StoreApi {
         @RequestMapping(
         method = RequestMethod.POST,
         value = "/store/order",
-        produces = { "application/json" },
-        consumes = { "application/json", "application/xml", "application/x-www-form-urlencoded" }
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+        consumes = { "application/json", "application/cbor", "application/x-jackson-smile", "application/xml", "application/x-www-form-urlencoded" }
     )
     default ResponseEntity<Order> placeOrder(
 
@@ -6,11 +6,11 @@
 package com.paloit.server.petstore.api;
 
 import com.paloit.server.petstore.model.User;
+import com.paloit.server.petstore.model.UserImportResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
-import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
@@ -19,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -56,9 +57,8 @@ public interface UserApi {
 
     /**
      * POST /user/createWithList : Creates list of users with given input array
-     * Creates list of users with given input array
+     * Creates list of users with given input array. The array is read from the request body while it arrives and is not bound up front.
      *
-     * @param user  (optional)
      * @return Successful operation (status code 200)
      *         or successful operation (status code 200)
      */
@@ -69,10 +69,8 @@ public interface UserApi {
         produces = { "application/xml", "application/json" },
         consumes = { "application/json" }
     )
-    default ResponseEntity<User> createUsersWithListInput(
-
-@Parameter(name = "" )   @Valid @RequestBody(required = false) List<User> user) {
-        return getDelegate().createUsersWithListInput(user);
+    default ResponseEntity<User> createUsersWithListInput() {
+        return getDelegate().createUsersWithListInput();
     }
 
 
@@ -117,6 +115,24 @@ public interface UserApi {
     }
 
 
+    /**
+     * POST /user/import : Imports a large list of users
+     * Reads a JSON array or newline delimited JSON of users from the request body while it arrives and stores them in batches. The body is not bound up front, so the memory used does not depend on the number of users. Returns one result per user in input order.
+     *
+     * @return Import result per user (status code 200)
+     *         or Body is neither a JSON array nor newline delimited JSON (status code 400)
+     */
+    @Operation(summary = "Imports a large list of users", tags={ "user", }, responses = {  @ApiResponse(responseCode = "200", description = "Import result per user", content = @Content(mediaType = "application/json", schema = @Schema(implementation =  UserImportResult.class))), @ApiResponse(responseCode = "400", description = "Body is neither a JSON array nor newline delimited JSON") })
+        @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/user/import",
+        produces = { "application/json" }
+    )
+    default ResponseEntity<List<UserImportResult>> importUsers() {
+        return getDelegate().importUsers();
+    }
+
+
     /**
      * GET /user/login : Logs user into the system
      *
@@ -1,6 +1,7 @@
 package com.paloit.server.petstore.api;
 
 import com.paloit.server.petstore.model.User;
+import com.paloit.server.petstore.model.UserImportResult;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.http.HttpStatus;
@@ -48,14 +49,13 @@ public interface UserApiDelegate {
 
     /**
      * POST /user/createWithList : Creates list of users with given input array
-     * Creates list of users with given input array
+     * Creates list of users with given input array. The array is read from the request body while it arrives and is not bound up front.
      *
-     * @param user  (optional)
      * @return Successful operation (status code 200)
      *         or successful operation (status code 200)
      * @see UserApi#createUsersWithListInput
      */
-    default ResponseEntity<User> createUsersWithListInput(List<User> user) {
+    default ResponseEntity<User> createUsersWithListInput() {
         getRequest().ifPresent(request -> {
             for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
                 if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
@@ -116,6 +116,28 @@ public interface UserApiDelegate {
 
     }
 
+    /**
+     * POST /user/import : Imports a large list of users
+     * Reads a JSON array or newline delimited JSON of users from the request body while it arrives and stores them in batches. The body is not bound up front, so the memory used does not depend on the number of users. Returns one result per user in input order.
+     *
+     * @return Import result per user (status code 200)
+     *         or Body is neither a JSON array nor newline delimited JSON (status code 400)
+     * @see UserApi#importUsers
+     */
+    default ResponseEntity<List<UserImportResult>> importUsers() {
+        getRequest().ifPresent(request -> {
+            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
+                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                    String exampleString = "{ \"index\" : 0, \"message\" : \"message\", \"username\" : \"theUser\", \"status\" : \"created\" }";
+                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                    break;
+                }
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
     /**
      * GET /user/login : Logs user into the system
      *
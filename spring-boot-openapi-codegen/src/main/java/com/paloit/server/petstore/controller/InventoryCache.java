@@ -0,0 +1,154 @@
+package com.paloit.server.petstore.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Snapshot of the store inventory, kept as encoded JSON together with its ETag.
+ *
+ * Writes only mark the snapshot as stale. The next read rebuilds it once, no matter how many
+ * writes happened in between. While one thread rebuilds, other readers are served the previous
+ * snapshot instead of waiting or rebuilding as well.
+ *
+ * With server compression enabled, a snapshot at least as large as its minimum response size is
+ * also kept gzipped, with its own ETag, so the bytes are compressed once per snapshot. The counts of
+ * a few statuses take less than a hundred bytes, so with the default minimum of 2KB the snapshot
+ * stays uncompressed, which gzip would only make larger.
+ */
+class InventoryCache {
+
+    private final Supplier<Map<String, Integer>> inventory;
+    private final ObjectWriter writer;
+    private final long gzipMinSize;
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param inventory reads the current inventory from the counters
+     * @param objectMapper objectmapper defined in JacksonConfig
+     * @param gzipMinSize snapshots of at least this many bytes are also kept gzipped, negative to never gzip
+     */
+    InventoryCache(Supplier<Map<String, Integer>> inventory, ObjectMapper objectMapper, long gzipMinSize) {
+        this.inventory = inventory;
+        this.writer = objectMapper.writerFor(Map.class);
+        this.gzipMinSize = gzipMinSize;
+        this.snapshot = build();
+    }
+
+    /**
+     * Marks the snapshot as stale. Called on every write, so the flag is only written when it
+     * changes, which keeps its cache line shared between the writing cores.
+     */
+    void invalidate() {
+        if (!stale.get()) {
+            stale.set(true);
+        }
+    }
+
+    /**
+     * @return the current snapshot, rebuilt first if the inventory changed
+     */
+    Snapshot get() {
+        if (stale.get() && rebuildLock.tryLock()) {
+            try {
+                // Reset before reading the counters, a write during the rebuild marks it stale again
+                if (stale.compareAndSet(true, false)) {
+                    snapshot = build();
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * @param accept Accept header of the request, may be null
+     * @return whether the cached JSON answers the request, false if the client prefers CBOR or Smile
+     */
+    static boolean isJsonPreferred(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return true;
+        }
+        List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+            if (PetStreamWriter.isBinary(mediaType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Snapshot build() {
+        Map<String, Integer> current = inventory.get();
+        try {
+            byte[] json = writer.writeValueAsBytes(current);
+            String hash = DigestUtils.md5DigestAsHex(json);
+            byte[] gzip = gzipMinSize >= 0 && json.length >= gzipMinSize ? Gzip.compress(json) : null;
+            return new Snapshot(current, json, "\"" + hash + "\"", gzip, "\"" + hash + "-gzip\"");
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static class Snapshot {
+
+        private final Map<String, Integer> inventory;
+        private final byte[] json;
+        private final String etag;
+        private final byte[] gzip;
+        private final String gzipEtag;
+
+        Snapshot(Map<String, Integer> inventory, byte[] json, String etag, byte[] gzip, String gzipEtag) {
+            this.inventory = inventory;
+            this.json = json;
+            this.etag = etag;
+            this.gzip = gzip;
+            this.gzipEtag = gzipEtag;
+        }
+
+        Map<String, Integer> getInventory() {
+            return inventory;
+        }
+
+        /**
+         * @return encoded JSON, must not be modified
+         */
+        byte[] getJson() {
+            return json;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+
+        /**
+         * @return gzipped JSON, must not be modified, null if the snapshot is not compressed
+         */
+        byte[] getGzip() {
+            return gzip;
+        }
+
+        /**
+         * @return ETag of the gzipped JSON, which is a different representation than the JSON
+         */
+        String getGzipEtag() {
+            return gzipEtag;
+        }
+    }
+}
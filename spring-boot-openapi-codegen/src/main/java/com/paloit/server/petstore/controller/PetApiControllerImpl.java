@@ -1,11 +1,27 @@
 package com.paloit.server.petstore.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.paloit.server.petstore.api.PetApiDelegate;
 import com.paloit.server.petstore.model.Pet;
 import com.paloit.server.petstore.model.Pet.StatusEnum;
+import com.paloit.server.petstore.repository.PetRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
 
 /**
  * Implementation is separated from API definition using the delegate pattern.
@@ -13,23 +29,182 @@ import org.springframework.stereotype.Component;
 @Component
 public class PetApiControllerImpl implements PetApiDelegate {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final PetRepository petRepository;
+    private final PetStreamWriter petStreamWriter;
+    private final NativeWebRequest request;
+    private final boolean streamingResponses;
+
+    /**
+     * @param petRepository pet store
+     * @param objectMapper objectmapper defined in JacksonConfig, used for streamed responses
+     * @param request current request, injected as proxy
+     * @param streamingResponses whether search results are streamed instead of collected into a list
+     */
+    public PetApiControllerImpl(
+        PetRepository petRepository,
+        ObjectMapper objectMapper,
+        @Autowired(required = false) NativeWebRequest request,
+        @Value("${petstore.streaming-responses:true}") boolean streamingResponses
+    ) {
+        this.petRepository = petRepository;
+        this.petStreamWriter = new PetStreamWriter(objectMapper);
+        this.request = request;
+        this.streamingResponses = streamingResponses;
+
+        // Example pet which can be fetched right after startup
+        var pet = new Pet();
+        pet.setId(1l);
+        pet.setName("Bear");
+        pet.setStatus(StatusEnum.AVAILABLE);
+        petRepository.save(pet);
+    }
+
+    @Override
+    public Optional<NativeWebRequest> getRequest() {
+        return Optional.ofNullable(request);
+    }
+
     @Override
     public ResponseEntity<Pet> getPetById(Long petId) {
-        if(petId == 1l) {
-            var pet = new Pet();
-            pet.setId(1l);
-            pet.setName("Bear");
-            pet.setStatus(StatusEnum.AVAILABLE);
-            return ResponseEntity.ok(pet);
-        }
-        return new ResponseEntity(HttpStatus.NOT_FOUND);
+        return petRepository.findById(petId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     @Override
     public ResponseEntity<Pet> addPet(Pet pet) {
-        // TODO: Add implementation...
-        return new ResponseEntity(HttpStatus.NOT_IMPLEMENTED);
+        return ResponseEntity.ok(petRepository.save(pet));
+    }
+
+    @Override
+    public ResponseEntity<Pet> updatePet(Pet pet) {
+        if(pet.getId() == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return petRepository.update(pet)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @Override
+    public ResponseEntity<Void> updatePetWithForm(Long petId, String name, String status) {
+        StatusEnum newStatus;
+        try {
+            newStatus = status == null ? null : StatusEnum.fromValue(status);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
+        }
+        return petRepository.update(petId, pet -> {
+                if(name != null) {
+                    pet.setName(name);
+                }
+                if(newStatus != null) {
+                    pet.setStatus(newStatus);
+                }
+                return pet;
+            })
+            .map(pet -> new ResponseEntity<Void>(HttpStatus.OK))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @Override
+    public ResponseEntity<Void> deletePet(Long petId, String apiKey) {
+        return petRepository.deleteById(petId)
+            .map(pet -> new ResponseEntity<Void>(HttpStatus.OK))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
-    // TODO: Override methods from delegate and implement
+    @Override
+    public ResponseEntity<List<Pet>> findPetsByStatus(String status, Integer limit, String cursor) {
+        if(status == null || status.isBlank() || !isValidLimit(limit)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        // Multiple status values can be provided with comma separated strings
+        Set<StatusEnum> statuses = EnumSet.noneOf(StatusEnum.class);
+        long fromId;
+        try {
+            for (String value : status.split(",")) {
+                statuses.add(StatusEnum.fromValue(value.trim()));
+            }
+            fromId = fromId(cursor);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        return respond(petRepository.iterateByStatus(statuses, fromId), limit);
+    }
+
+    @Override
+    public ResponseEntity<List<Pet>> findPetsByTags(List<String> tags, Integer limit, String cursor) {
+        if(tags == null || tags.isEmpty() || !isValidLimit(limit)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        long fromId;
+        try {
+            fromId = fromId(cursor);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return respond(petRepository.iterateByTags(tags, fromId), limit);
+    }
+
+    static boolean isValidLimit(Integer limit) {
+        return limit == null || (limit > 0 && limit <= MAX_PAGE_SIZE);
+    }
+
+    static long fromId(String cursor) {
+        return cursor == null ? Long.MIN_VALUE : PetCursor.decode(cursor);
+    }
+
+    /**
+     * Streams the pets to the response if streaming is enabled and the client accepts JSON or NDJSON.
+     * Otherwise the pets are collected into a list which is rendered by the message converters.
+     *
+     * With a limit only the first page is returned. If more pets follow, the cursor of the next page
+     * is sent in the {@value #NEXT_CURSOR_HEADER} header.
+     *
+     * @return the list response or null if the response has already been written
+     */
+    private ResponseEntity<List<Pet>> respond(Iterator<Pet> pets, Integer limit) {
+        String nextCursor = null;
+        if(limit != null) {
+            List<Pet> page = new ArrayList<>(limit);
+            while (page.size() < limit && pets.hasNext()) {
+                page.add(pets.next());
+            }
+            if(pets.hasNext()) {
+                nextCursor = PetCursor.encode(page.get(page.size() - 1).getId() + 1);
+            }
+            pets = page.iterator();
+        }
+
+        if(streamingResponses) {
+            Optional<MediaType> mediaType = getRequest()
+                .flatMap(request -> petStreamWriter.selectMediaType(request.getHeader(HttpHeaders.ACCEPT)));
+            Optional<HttpServletResponse> response = getRequest()
+                .map(request -> request.getNativeResponse(HttpServletResponse.class));
+            if(mediaType.isPresent() && response.isPresent()) {
+                if(nextCursor != null) {
+                    response.get().setHeader(NEXT_CURSOR_HEADER, nextCursor);
+                }
+                try {
+                    petStreamWriter.write(response.get(), mediaType.get(), pets);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                // A null entity tells Spring MVC that the response has been handled
+                return null;
+            }
+        }
+        List<Pet> result = new ArrayList<>();
+        pets.forEachRemaining(result::add);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if(nextCursor != null) {
+            builder.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder.body(result);
+    }
 }
@@ -0,0 +1,39 @@
+package com.paloit.server.petstore.controller;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor of the pet search endpoints. It holds the id from which the next page
+ * starts, so a page is found by seeking in the index instead of skipping the pets of all previous
+ * pages, and pets added or removed in between do not shift the following pages.
+ */
+final class PetCursor {
+
+    private static final int ID_BYTES = Long.BYTES;
+
+    private PetCursor() {
+    }
+
+    /**
+     * @param fromId first pet id of the next page
+     * @return URL safe cursor
+     */
+    static String encode(long fromId) {
+        byte[] bytes = ByteBuffer.allocate(ID_BYTES).putLong(fromId).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * @param cursor cursor returned by {@link #encode(long)}
+     * @return first pet id of the page
+     * @throws IllegalArgumentException if the cursor has not been created by this class
+     */
+    static long decode(String cursor) {
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+        if (bytes.length != ID_BYTES) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor);
+        }
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+}
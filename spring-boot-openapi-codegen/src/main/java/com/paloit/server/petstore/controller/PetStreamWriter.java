@@ -0,0 +1,102 @@
+package com.paloit.server.petstore.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.paloit.config.BinaryFormatConfig;
+import com.paloit.server.petstore.model.Pet;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+/**
+ * Writes pets straight from an iterator to the servlet response, either as a JSON array or as
+ * newline delimited JSON. Pets are serialized one by one into the response buffer, so the memory
+ * used by a request does not depend on the number of pets and the first bytes are sent as soon as
+ * the buffer is full.
+ */
+class PetStreamWriter {
+
+    static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter petWriter;
+
+    PetStreamWriter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        // Flushing after every pet would send one network packet per pet
+        this.petWriter = objectMapper.writerFor(Pet.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Selects the streamed format from the Accept header of the request.
+     *
+     * @param accept Accept header, may be null
+     * @return JSON or NDJSON, empty if the client prefers a format which is not streamed
+     */
+    Optional<MediaType> selectMediaType(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return Optional.of(MediaType.APPLICATION_JSON);
+        }
+        List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return Optional.of(MediaType.APPLICATION_JSON);
+            }
+            if (mediaType.includes(APPLICATION_NDJSON)) {
+                return Optional.of(APPLICATION_NDJSON);
+            }
+            if (mediaType.includes(MediaType.APPLICATION_XML) || isBinary(mediaType)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return whether the media type is CBOR or Smile, which are written by the message converters
+     */
+    static boolean isBinary(MediaType mediaType) {
+        return mediaType.includes(MediaType.APPLICATION_CBOR) || mediaType.includes(BinaryFormatConfig.APPLICATION_SMILE);
+    }
+
+    /**
+     * Writes the pets with status 200 to the response.
+     *
+     * @param response servlet response which has not been committed yet
+     * @param mediaType JSON or NDJSON
+     * @param pets pets to write
+     */
+    void write(HttpServletResponse response, MediaType mediaType, Iterator<Pet> pets) throws IOException {
+        boolean ndjson = APPLICATION_NDJSON.equals(mediaType);
+        response.setStatus(HttpStatus.OK.value());
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(mediaType.toString());
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(response.getOutputStream())) {
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+            while (pets.hasNext()) {
+                petWriter.writeValue(generator, pets.next());
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.paloit.server.petstore.controller;
+
+import static com.paloit.server.petstore.controller.PetApiControllerImpl.NEXT_CURSOR_HEADER;
+import static com.paloit.server.petstore.controller.PetApiControllerImpl.fromId;
+import static com.paloit.server.petstore.controller.PetApiControllerImpl.isValidLimit;
+
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Pet.StatusEnum;
+import com.paloit.server.petstore.reactive.api.PetApiDelegate;
+import com.paloit.server.petstore.repository.PetRepository;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive implementation of the pet api, used when the server runs on WebFlux.
+ *
+ * The repository is in memory and never blocks, so every operation runs on the thread which
+ * handles the request. Search results are returned as a Flux which WebFlux writes as JSON array or
+ * NDJSON while the repository is iterated, as fast as the client reads them.
+ */
+@Component
+public class ReactivePetApiControllerImpl implements PetApiDelegate {
+
+    private final PetRepository petRepository;
+
+    /**
+     * @param petRepository pet store
+     */
+    public ReactivePetApiControllerImpl(PetRepository petRepository) {
+        this.petRepository = petRepository;
+
+        // Example pet which can be fetched right after startup
+        var pet = new Pet();
+        pet.setId(1l);
+        pet.setName("Bear");
+        pet.setStatus(StatusEnum.AVAILABLE);
+        petRepository.save(pet);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Pet>> getPetById(Long petId, ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> petRepository.findById(petId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Pet>> addPet(Mono<Pet> pet, ServerWebExchange exchange) {
+        return pet.map(newPet -> ResponseEntity.ok(petRepository.save(newPet)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Pet>> updatePet(Mono<Pet> pet, ServerWebExchange exchange) {
+        return pet.map(updated -> {
+            if(updated.getId() == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            return petRepository.update(updated)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        });
+    }
+
+    /**
+     * WebFlux binds only query parameters to request params, so name and status are also read
+     * from a form body.
+     */
+    @Override
+    public Mono<ResponseEntity<Void>> updatePetWithForm(Long petId, String name, String status, ServerWebExchange exchange) {
+        return exchange.getFormData().map(form -> updateWithForm(
+            petId,
+            name != null ? name : form.getFirst("name"),
+            status != null ? status : form.getFirst("status")
+        ));
+    }
+
+    private ResponseEntity<Void> updateWithForm(Long petId, String name, String status) {
+        StatusEnum newStatus;
+        try {
+            newStatus = status == null ? null : StatusEnum.fromValue(status);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
+        }
+        return petRepository.update(petId, pet -> {
+                if(name != null) {
+                    pet.setName(name);
+                }
+                if(newStatus != null) {
+                    pet.setStatus(newStatus);
+                }
+                return pet;
+            })
+            .map(pet -> new ResponseEntity<Void>(HttpStatus.OK))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deletePet(Long petId, String apiKey, ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> petRepository.deleteById(petId)
+            .map(pet -> new ResponseEntity<Void>(HttpStatus.OK))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<Pet>>> findPetsByStatus(String status, Integer limit, String cursor, ServerWebExchange exchange) {
+        if(status == null || status.isBlank() || !isValidLimit(limit)) {
+            return Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+        // Multiple status values can be provided with comma separated strings
+        Set<StatusEnum> statuses = EnumSet.noneOf(StatusEnum.class);
+        long fromId;
+        try {
+            for (String value : status.split(",")) {
+                statuses.add(StatusEnum.fromValue(value.trim()));
+            }
+            fromId = fromId(cursor);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+        return Mono.fromSupplier(() -> respond(() -> petRepository.iterateByStatus(statuses, fromId), limit));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<Pet>>> findPetsByTags(List<String> tags, Integer limit, String cursor, ServerWebExchange exchange) {
+        if(tags == null || tags.isEmpty() || !isValidLimit(limit)) {
+            return Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+        long fromId;
+        try {
+            fromId = fromId(cursor);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+        return Mono.fromSupplier(() -> respond(() -> petRepository.iterateByTags(tags, fromId), limit));
+    }
+
+    /**
+     * Without limit the pets are streamed, the repository is iterated while the response is
+     * written. With a limit only the first page is returned. If more pets follow, the cursor of
+     * the next page is sent in the {@value PetApiControllerImpl#NEXT_CURSOR_HEADER} header.
+     */
+    private ResponseEntity<Flux<Pet>> respond(Iterable<Pet> pets, Integer limit) {
+        if(limit == null) {
+            return ResponseEntity.ok(Flux.fromIterable(pets));
+        }
+        Iterator<Pet> iterator = pets.iterator();
+        List<Pet> page = new ArrayList<>(limit);
+        while (page.size() < limit && iterator.hasNext()) {
+            page.add(iterator.next());
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if(iterator.hasNext()) {
+            builder.header(NEXT_CURSOR_HEADER, PetCursor.encode(page.get(page.size() - 1).getId() + 1));
+        }
+        return builder.body(Flux.fromIterable(page));
+    }
+}
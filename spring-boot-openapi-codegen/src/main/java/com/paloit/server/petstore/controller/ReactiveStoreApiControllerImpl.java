@@ -0,0 +1,138 @@
+package com.paloit.server.petstore.controller;
+
+import static com.paloit.server.petstore.controller.StoreApiControllerImpl.readInventory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paloit.server.petstore.model.Order;
+import com.paloit.server.petstore.reactive.api.StoreApiDelegate;
+import com.paloit.server.petstore.repository.OrderRepository;
+import com.paloit.server.petstore.repository.PetRepository;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive implementation of the store api, used when the server runs on WebFlux.
+ */
+@Component
+public class ReactiveStoreApiControllerImpl implements StoreApiDelegate {
+
+    private final OrderRepository orderRepository;
+    private final PetRepository petRepository;
+    private final InventoryCache inventoryCache;
+
+    /**
+     * @param orderRepository order store
+     * @param petRepository pet store, ordered pets must exist
+     * @param objectMapper objectmapper defined in JacksonConfig, used for the cached inventory
+     * @param compression whether responses are compressed, the cached inventory is then kept gzipped as well
+     * @param compressionMinSize minimum size of compressed responses
+     */
+    public ReactiveStoreApiControllerImpl(
+        OrderRepository orderRepository,
+        PetRepository petRepository,
+        ObjectMapper objectMapper,
+        @Value("${server.compression.enabled:false}") boolean compression,
+        @Value("${server.compression.min-response-size:2KB}") DataSize compressionMinSize
+    ) {
+        this.orderRepository = orderRepository;
+        this.petRepository = petRepository;
+        this.inventoryCache = new InventoryCache(() -> readInventory(petRepository, orderRepository), objectMapper,
+            compression ? compressionMinSize.toBytes() : -1);
+        petRepository.onStatusCountChange(inventoryCache::invalidate);
+        orderRepository.onQuantityChange(inventoryCache::invalidate);
+
+        // Example order which can be fetched right after startup
+        var order = new Order();
+        order.setId(1l);
+        order.setPetId(1l);
+        order.setQuantity(5);
+        order.setStatus(Order.StatusEnum.PLACED);
+        order.setComplete(false);
+        orderRepository.save(order);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Order>> getOrderById(Long orderId, ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> orderRepository.findById(orderId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Order>> placeOrder(Mono<Order> order, ServerWebExchange exchange) {
+        return order
+            .map(this::place)
+            .defaultIfEmpty(new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED));
+    }
+
+    private ResponseEntity<Order> place(Order order) {
+        if(order.getQuantity() == null || order.getQuantity() < 1
+            || order.getPetId() == null || !petRepository.existsById(order.getPetId())) {
+            return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
+        }
+        if(order.getStatus() == null) {
+            order.setStatus(Order.StatusEnum.PLACED);
+        }
+        if(order.getComplete() == null) {
+            order.setComplete(false);
+        }
+        return ResponseEntity.ok(orderRepository.save(order));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteOrder(Long orderId, ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> orderRepository.deleteById(orderId)
+            .map(order -> new ResponseEntity<Void>(HttpStatus.OK))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND)));
+    }
+
+    /**
+     * Serves the cached inventory snapshot. A request with a matching If-None-Match header is
+     * answered with 304, otherwise the encoded JSON is written as is, gzipped if the snapshot is
+     * kept gzipped and the client accepts it. A client preferring CBOR or Smile gets the counts
+     * through the codecs, without ETag.
+     *
+     * @return the counts for CBOR and Smile, otherwise empty as the response has been handled
+     */
+    @Override
+    public Mono<ResponseEntity<Map<String, Integer>>> getInventory(ServerWebExchange exchange) {
+        return Mono.defer(() -> {
+            InventoryCache.Snapshot inventory = inventoryCache.get();
+            if(!InventoryCache.isJsonPreferred(exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT))) {
+                // CBOR or Smile, written by the codecs from the counts of the snapshot
+                return Mono.just(ResponseEntity.ok().body(inventory.getInventory()));
+            }
+            boolean gzip = inventory.getGzip() != null
+                && Gzip.isAccepted(exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+            String etag = gzip ? inventory.getGzipEtag() : inventory.getEtag();
+            byte[] body = gzip ? inventory.getGzip() : inventory.getJson();
+            ServerHttpResponse response = exchange.getResponse();
+            if(inventory.getGzip() != null) {
+                response.getHeaders().set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            // Sets status 304 and the ETag header if the client has the current snapshot
+            if(exchange.checkNotModified(etag)) {
+                return Mono.empty();
+            }
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().set(HttpHeaders.ETAG, etag);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            if(gzip) {
+                // Already encoded, the server compression leaves the response as is
+                response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, Gzip.ENCODING);
+            }
+            response.getHeaders().setContentLength(body.length);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)))
+                .then(Mono.empty());
+        });
+    }
+}
@@ -0,0 +1,175 @@
+package com.paloit.server.petstore.controller;
+
+import static com.paloit.server.petstore.controller.UserApiControllerImpl.EXPIRES_AFTER_HEADER;
+import static com.paloit.server.petstore.controller.UserApiControllerImpl.SESSION_HEADER;
+import static com.paloit.server.petstore.controller.UserApiControllerImpl.withoutPassword;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paloit.server.petstore.model.User;
+import com.paloit.server.petstore.model.UserImportResult;
+import com.paloit.server.petstore.model.UserImportResult.StatusEnum;
+import com.paloit.server.petstore.reactive.api.UserApiDelegate;
+import com.paloit.server.petstore.repository.UserRepository;
+import com.paloit.server.petstore.security.SessionStore;
+import com.paloit.server.petstore.security.UserAuthenticator;
+import java.util.Collections;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive implementation of the user api, used when the server runs on WebFlux.
+ *
+ * Storing a user and checking a login hash passwords, which takes milliseconds of CPU time. These
+ * operations run on the bounded elastic scheduler, so the threads handling requests stay free.
+ * Returned users never contain the password hash.
+ */
+@Component
+public class ReactiveUserApiControllerImpl implements UserApiDelegate {
+
+    private static final ResolvableType JSON_NODE = ResolvableType.forClass(JsonNode.class);
+
+    private final UserRepository userRepository;
+    private final UserAuthenticator userAuthenticator;
+    private final SessionStore sessionStore;
+    private final UserImporter userImporter;
+    private final Jackson2JsonDecoder jsonDecoder;
+
+    /**
+     * @param userRepository user store
+     * @param userAuthenticator checks logins
+     * @param sessionStore sessions of logged in users
+     * @param objectMapper objectmapper defined in JacksonConfig, used for the streamed user import
+     * @param importBatchSize number of users stored at once by the user import
+     */
+    public ReactiveUserApiControllerImpl(
+        UserRepository userRepository,
+        UserAuthenticator userAuthenticator,
+        SessionStore sessionStore,
+        ObjectMapper objectMapper,
+        @Value("${petstore.user-import.batch-size:1000}") int importBatchSize
+    ) {
+        this.userRepository = userRepository;
+        this.userAuthenticator = userAuthenticator;
+        this.sessionStore = sessionStore;
+        this.userImporter = new UserImporter(objectMapper, userRepository, importBatchSize);
+        this.jsonDecoder = new Jackson2JsonDecoder(objectMapper);
+    }
+
+    /**
+     * Stores the users in batches like {@link #importUsers(ServerWebExchange)}. Invalid users and
+     * existing usernames are skipped, the results per user are only returned by the import.
+     *
+     * @return the last created user, no body if none has been created
+     */
+    @Override
+    public Mono<ResponseEntity<User>> createUsersWithListInput(ServerWebExchange exchange) {
+        return userImporter.importUsers(decodeUsers(exchange), Schedulers.boundedElastic())
+            .filter(result -> result.getStatus() == StatusEnum.CREATED)
+            .reduce((previous, result) -> result)
+            .flatMap(result -> Mono.justOrEmpty(userRepository.findByUsername(result.getUsername())))
+            .map(user -> ResponseEntity.ok(withoutPassword(user)))
+            .defaultIfEmpty(new ResponseEntity<>(HttpStatus.OK))
+            .onErrorResume(DecodingException.class, e -> Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<User>> createUser(Mono<User> user, ServerWebExchange exchange) {
+        return user
+            .publishOn(Schedulers.boundedElastic())
+            .map(newUser -> UserImporter.validate(newUser) != null
+                ? new ResponseEntity<User>(HttpStatus.BAD_REQUEST)
+                : ResponseEntity.ok(withoutPassword(userRepository.save(newUser))))
+            .defaultIfEmpty(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
+    @Override
+    public Mono<ResponseEntity<User>> getUserByName(String username, ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> userRepository.findByUsername(username)
+            .map(user -> ResponseEntity.ok(withoutPassword(user)))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> updateUser(String username, Mono<User> user, ServerWebExchange exchange) {
+        return user
+            .publishOn(Schedulers.boundedElastic())
+            .map(updated -> userRepository.update(username, updated)
+                .map(stored -> new ResponseEntity<Void>(HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND)))
+            .defaultIfEmpty(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteUser(String username, ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> userRepository.deleteByUsername(username)
+            .map(user -> {
+                userAuthenticator.invalidate(username);
+                return new ResponseEntity<Void>(HttpStatus.OK);
+            })
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND)));
+    }
+
+    /**
+     * Starts a session for valid credentials.
+     *
+     * @return the session token, to be sent in the api_key header, with its expiry in the X-Expires-After header
+     */
+    @Override
+    public Mono<ResponseEntity<String>> loginUser(String username, String password, ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> userAuthenticator.authenticate(username, password)
+                .map(user -> sessionStore.create(user.getUsername()))
+                .map(session -> ResponseEntity.ok()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .header(EXPIRES_AFTER_HEADER, session.getExpiresAt().toString())
+                    .body(session.getToken()))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.BAD_REQUEST)))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Ends the session whose token is sent in the api_key header.
+     */
+    @Override
+    public Mono<ResponseEntity<Void>> logoutUser(ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> {
+            String token = exchange.getRequest().getHeaders().getFirst(SESSION_HEADER);
+            if(token != null) {
+                sessionStore.remove(token);
+            }
+            return new ResponseEntity<>(HttpStatus.OK);
+        });
+    }
+
+    /**
+     * Decodes the users one by one while the body arrives and writes the results while the
+     * import goes on. A body which is not JSON at all is answered with 400.
+     */
+    @Override
+    public Mono<ResponseEntity<Flux<UserImportResult>>> importUsers(ServerWebExchange exchange) {
+        // The JSON encoder writes nothing before the first result, so the status can still change
+        Flux<UserImportResult> results = userImporter.importUsers(decodeUsers(exchange), Schedulers.boundedElastic())
+            .onErrorMap(DecodingException.class, e -> new ResponseStatusException(
+                HttpStatus.BAD_REQUEST, "Body is neither a JSON array nor newline delimited JSON", e));
+        return Mono.just(ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(results));
+    }
+
+    private Flux<JsonNode> decodeUsers(ServerWebExchange exchange) {
+        return jsonDecoder
+            .decode(exchange.getRequest().getBody(), JSON_NODE, MediaType.APPLICATION_JSON, Collections.emptyMap())
+            .cast(JsonNode.class);
+    }
+}
@@ -1,12 +1,27 @@
 package com.paloit.server.petstore.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.paloit.server.petstore.api.StoreApiDelegate;
 import com.paloit.server.petstore.model.Order;
 import com.paloit.server.petstore.model.Pet;
-import com.paloit.server.petstore.model.Pet.StatusEnum;
+import com.paloit.server.petstore.repository.OrderRepository;
+import com.paloit.server.petstore.repository.PetRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.NativeWebRequest;
 
 /**
  * Implementation is separated from API definition using the delegate pattern.
@@ -14,18 +29,143 @@ import org.springframework.stereotype.Component;
 @Component
 public class StoreApiControllerImpl implements StoreApiDelegate {
 
+    private final OrderRepository orderRepository;
+    private final PetRepository petRepository;
+    private final InventoryCache inventoryCache;
+    private final NativeWebRequest request;
+
+    /**
+     * @param orderRepository order store
+     * @param petRepository pet store, ordered pets must exist
+     * @param objectMapper objectmapper defined in JacksonConfig, used for the cached inventory
+     * @param compression whether responses are compressed, the cached inventory is then kept gzipped as well
+     * @param compressionMinSize minimum size of compressed responses
+     * @param request current request, injected as proxy
+     */
+    public StoreApiControllerImpl(
+        OrderRepository orderRepository,
+        PetRepository petRepository,
+        ObjectMapper objectMapper,
+        @Value("${server.compression.enabled:false}") boolean compression,
+        @Value("${server.compression.min-response-size:2KB}") DataSize compressionMinSize,
+        @Autowired(required = false) NativeWebRequest request
+    ) {
+        this.orderRepository = orderRepository;
+        this.petRepository = petRepository;
+        this.inventoryCache = new InventoryCache(() -> readInventory(petRepository, orderRepository), objectMapper,
+            compression ? compressionMinSize.toBytes() : -1);
+        this.request = request;
+        petRepository.onStatusCountChange(inventoryCache::invalidate);
+        orderRepository.onQuantityChange(inventoryCache::invalidate);
+
+        // Example order which can be fetched right after startup
+        var order = new Order();
+        order.setId(1l);
+        order.setPetId(1l);
+        order.setQuantity(5);
+        order.setStatus(Order.StatusEnum.PLACED);
+        order.setComplete(false);
+        orderRepository.save(order);
+    }
+
+    @Override
+    public Optional<NativeWebRequest> getRequest() {
+        return Optional.ofNullable(request);
+    }
+
     @Override
     public ResponseEntity<Order> getOrderById(Long orderId) {
-        if(orderId == 1l) {
-            var order = new Order();
-            order.setId(1l);
-            order.setQuantity(5);
+        return orderRepository.findById(orderId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @Override
+    public ResponseEntity<Order> placeOrder(Order order) {
+        if(order == null || order.getQuantity() == null || order.getQuantity() < 1
+            || order.getPetId() == null || !petRepository.existsById(order.getPetId())) {
+            return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
+        }
+        if(order.getStatus() == null) {
+            order.setStatus(Order.StatusEnum.PLACED);
+        }
+        if(order.getComplete() == null) {
             order.setComplete(false);
-            return ResponseEntity.ok(order);
         }
-        return new ResponseEntity(HttpStatus.NOT_FOUND);
+        return ResponseEntity.ok(orderRepository.save(order));
     }
 
-    // TODO: Override methods from delegate and implement
+    @Override
+    public ResponseEntity<Void> deleteOrder(Long orderId) {
+        return orderRepository.deleteById(orderId)
+            .map(order -> new ResponseEntity<Void>(HttpStatus.OK))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
 
+    /**
+     * Serves the cached inventory snapshot. A request with a matching If-None-Match header is
+     * answered with 304, otherwise the encoded JSON is written as is, gzipped if the snapshot is
+     * kept gzipped and the client accepts it. A client preferring CBOR or Smile gets the counts
+     * through the message converters, without ETag.
+     *
+     * @return the inventory if there is no servlet response, otherwise null as the response has been handled
+     */
+    @Override
+    public ResponseEntity<Map<String, Integer>> getInventory() {
+        InventoryCache.Snapshot inventory = inventoryCache.get();
+        Optional<HttpServletResponse> response = getRequest()
+            .map(request -> request.getNativeResponse(HttpServletResponse.class));
+        if(response.isEmpty()) {
+            return ResponseEntity.ok().eTag(inventory.getEtag()).body(inventory.getInventory());
+        }
+        if(!InventoryCache.isJsonPreferred(request.getHeader(HttpHeaders.ACCEPT))) {
+            // CBOR or Smile, written by the message converters from the counts of the snapshot
+            return ResponseEntity.ok().body(inventory.getInventory());
+        }
+        boolean gzip = inventory.getGzip() != null && Gzip.isAccepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? inventory.getGzipEtag() : inventory.getEtag();
+        byte[] body = gzip ? inventory.getGzip() : inventory.getJson();
+        HttpServletResponse servletResponse = response.get();
+        if(inventory.getGzip() != null) {
+            servletResponse.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        // Sets status 304 and the ETag header if the client has the current snapshot
+        if(request.checkNotModified(etag)) {
+            return null;
+        }
+        try {
+            servletResponse.setStatus(HttpStatus.OK.value());
+            servletResponse.setHeader(HttpHeaders.ETAG, etag);
+            servletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            if(gzip) {
+                // Already encoded, the server compression leaves the response as is
+                servletResponse.setHeader(HttpHeaders.CONTENT_ENCODING, Gzip.ENCODING);
+            }
+            servletResponse.setContentLength(body.length);
+            servletResponse.getOutputStream().write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // A null entity tells Spring MVC that the response has been handled
+        return null;
+    }
+
+    /**
+     * Number of pets per pet status and ordered quantity per order status. Both are read from
+     * counters which are maintained by the repositories, the pets and orders are not visited.
+     */
+    static Map<String, Integer> readInventory(PetRepository petRepository, OrderRepository orderRepository) {
+        Map<String, Integer> inventory = new LinkedHashMap<>();
+        for (Pet.StatusEnum status : Pet.StatusEnum.values()) {
+            inventory.put(status.getValue(), saturatedInt(petRepository.countByStatus(status)));
+        }
+        for (Order.StatusEnum status : Order.StatusEnum.values()) {
+            inventory.put(status.getValue(), saturatedInt(orderRepository.quantityByStatus(status)));
+        }
+        return Collections.unmodifiableMap(inventory);
+    }
+
+    private static int saturatedInt(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
 }
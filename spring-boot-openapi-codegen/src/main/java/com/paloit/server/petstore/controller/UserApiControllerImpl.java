@@ -0,0 +1,191 @@
+package com.paloit.server.petstore.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paloit.server.petstore.api.UserApiDelegate;
+import com.paloit.server.petstore.model.User;
+import com.paloit.server.petstore.model.UserImportResult;
+import com.paloit.server.petstore.repository.UserRepository;
+import com.paloit.server.petstore.security.SessionStore;
+import com.paloit.server.petstore.security.UserAuthenticator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+
+/**
+ * Implementation is separated from API definition using the delegate pattern.
+ *
+ * Returned users never contain the password hash.
+ */
+@Component
+public class UserApiControllerImpl implements UserApiDelegate {
+
+    /** Header of the session token, the api_key security scheme of the spec */
+    static final String SESSION_HEADER = "api_key";
+    static final String EXPIRES_AFTER_HEADER = "X-Expires-After";
+
+    private final UserRepository userRepository;
+    private final UserAuthenticator userAuthenticator;
+    private final SessionStore sessionStore;
+    private final UserImporter userImporter;
+    private final NativeWebRequest request;
+
+    /**
+     * @param userRepository user store
+     * @param userAuthenticator checks logins
+     * @param sessionStore sessions of logged in users
+     * @param objectMapper objectmapper defined in JacksonConfig, used for the streamed user import
+     * @param request current request, injected as proxy
+     * @param importBatchSize number of users stored at once by the user import
+     */
+    public UserApiControllerImpl(
+        UserRepository userRepository,
+        UserAuthenticator userAuthenticator,
+        SessionStore sessionStore,
+        ObjectMapper objectMapper,
+        @Autowired(required = false) NativeWebRequest request,
+        @Value("${petstore.user-import.batch-size:1000}") int importBatchSize
+    ) {
+        this.userRepository = userRepository;
+        this.userAuthenticator = userAuthenticator;
+        this.sessionStore = sessionStore;
+        this.userImporter = new UserImporter(objectMapper, userRepository, importBatchSize);
+        this.request = request;
+    }
+
+    @Override
+    public Optional<NativeWebRequest> getRequest() {
+        return Optional.ofNullable(request);
+    }
+
+    /**
+     * Streams the users from the request body and stores them in batches like {@link #importUsers()}.
+     * Invalid users and existing usernames are skipped, the results per user are only returned by
+     * the import.
+     *
+     * @return the last created user, no body if none has been created
+     */
+    @Override
+    public ResponseEntity<User> createUsersWithListInput() {
+        Optional<HttpServletRequest> servletRequest = getRequest()
+            .map(request -> request.getNativeRequest(HttpServletRequest.class));
+        if(servletRequest.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+        }
+        AtomicReference<String> lastCreated = new AtomicReference<>();
+        try {
+            if(!userImporter.createUsers(servletRequest.get().getInputStream(), result -> lastCreated.set(result.getUsername()))) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Optional.ofNullable(lastCreated.get())
+            .flatMap(userRepository::findByUsername)
+            .map(user -> ResponseEntity.ok(withoutPassword(user)))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.OK));
+    }
+
+    @Override
+    public ResponseEntity<User> createUser(User user) {
+        if(user == null || UserImporter.validate(user) != null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return ResponseEntity.ok(withoutPassword(userRepository.save(user)));
+    }
+
+    @Override
+    public ResponseEntity<User> getUserByName(String username) {
+        return userRepository.findByUsername(username)
+            .map(user -> ResponseEntity.ok(withoutPassword(user)))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @Override
+    public ResponseEntity<Void> updateUser(String username, User user) {
+        if(user == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return userRepository.update(username, user)
+            .map(updated -> new ResponseEntity<Void>(HttpStatus.OK))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @Override
+    public ResponseEntity<Void> deleteUser(String username) {
+        return userRepository.deleteByUsername(username)
+            .map(user -> {
+                userAuthenticator.invalidate(username);
+                return new ResponseEntity<Void>(HttpStatus.OK);
+            })
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Starts a session for valid credentials.
+     *
+     * @return the session token, to be sent in the api_key header, with its expiry in the X-Expires-After header
+     */
+    @Override
+    public ResponseEntity<String> loginUser(String username, String password) {
+        return userAuthenticator.authenticate(username, password)
+            .map(user -> sessionStore.create(user.getUsername()))
+            .map(session -> ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .header(EXPIRES_AFTER_HEADER, session.getExpiresAt().toString())
+                .body(session.getToken()))
+            .orElseGet(() -> new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+
+    /**
+     * Ends the session whose token is sent in the api_key header.
+     */
+    @Override
+    public ResponseEntity<Void> logoutUser() {
+        getRequest()
+            .map(request -> request.getHeader(SESSION_HEADER))
+            .ifPresent(sessionStore::remove);
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
+    static User withoutPassword(User user) {
+        return new User()
+            .id(user.getId())
+            .username(user.getUsername())
+            .firstName(user.getFirstName())
+            .lastName(user.getLastName())
+            .email(user.getEmail())
+            .phone(user.getPhone())
+            .userStatus(user.getUserStatus());
+    }
+
+    @Override
+    public ResponseEntity<List<UserImportResult>> importUsers() {
+        Optional<HttpServletRequest> servletRequest = getRequest()
+            .map(request -> request.getNativeRequest(HttpServletRequest.class));
+        Optional<HttpServletResponse> servletResponse = getRequest()
+            .map(request -> request.getNativeResponse(HttpServletResponse.class));
+        if(servletRequest.isEmpty() || servletResponse.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+        }
+        try {
+            if(!userImporter.importUsers(servletRequest.get().getInputStream(), servletResponse.get())) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // A null entity tells Spring MVC that the response has been handled
+        return null;
+    }
+}
@@ -0,0 +1,311 @@
+package com.paloit.server.petstore.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.paloit.server.petstore.model.User;
+import com.paloit.server.petstore.model.UserImportResult;
+import com.paloit.server.petstore.model.UserImportResult.StatusEnum;
+import com.paloit.server.petstore.repository.UserRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Imports users while the request body is parsed and writes one result per user while the
+ * import goes on.
+ *
+ * The body is read token by token, every user is bound and validated on its own and valid users
+ * are stored in batches of a fixed size. Only the current batch is held in memory, so the heap
+ * used by an import does not depend on the number of users in the body.
+ */
+class UserImporter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader userReader;
+    private final ObjectWriter resultWriter;
+    private final UserRepository userRepository;
+    private final int batchSize;
+
+    /**
+     * @param objectMapper objectmapper defined in JacksonConfig
+     * @param userRepository user store
+     * @param batchSize number of users stored at once
+     */
+    UserImporter(ObjectMapper objectMapper, UserRepository userRepository, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.objectMapper = objectMapper;
+        this.userReader = objectMapper.readerFor(User.class);
+        this.resultWriter = objectMapper.writerFor(UserImportResult.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.userRepository = userRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports the users of a JSON array or of newline delimited JSON and writes the results
+     * as JSON array with status 200.
+     *
+     * @param body request body
+     * @param response servlet response which has not been committed yet
+     * @return false if the body is neither a JSON array nor a JSON object sequence, nothing has been written then
+     */
+    boolean importUsers(InputStream body, HttpServletResponse response) throws IOException {
+        return importUsers(body, new ResultWriter(response));
+    }
+
+    /**
+     * Imports the users of a JSON array or of newline delimited JSON without writing the results.
+     *
+     * @param body request body
+     * @param created called with the result of every created user, in input order
+     * @return false if the body is neither a JSON array nor a JSON object sequence
+     */
+    boolean createUsers(InputStream body, Consumer<UserImportResult> created) throws IOException {
+        return importUsers(body, result -> {
+            if (result.getStatus() == StatusEnum.CREATED) {
+                created.accept(result);
+            }
+        });
+    }
+
+    private boolean importUsers(InputStream body, Results results) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken first;
+            try {
+                first = parser.nextToken();
+            } catch (JsonParseException e) {
+                return false;
+            }
+            boolean array = first == JsonToken.START_ARRAY;
+            if (!array && first != JsonToken.START_OBJECT) {
+                return false;
+            }
+
+            try (results) {
+                results.start();
+                importUsers(parser, array ? parser.nextToken() : first, results);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Imports the users while they are decoded from the request body, for the reactive server.
+     * Users are bound and stored on the given scheduler, as hashing their passwords takes CPU time
+     * which must not hold up the event loop.
+     *
+     * @param users users of a JSON array or of newline delimited JSON, decoded one by one
+     * @param scheduler scheduler the batches are stored on
+     * @return one result per user in input order, fails with the decoding error if the body is not
+     *     JSON at all
+     */
+    Flux<UserImportResult> importUsers(Flux<JsonNode> users, Scheduler scheduler) {
+        return Flux.defer(() -> {
+            Batch batch = new Batch();
+            long[] index = {0};
+            return users
+                .publishOn(scheduler)
+                .concatMapIterable(node -> {
+                    try {
+                        batch.add(index[0]++, node);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return batch.size() == batchSize ? batch.flush() : List.of();
+                })
+                .concatWith(Flux.defer(() -> Flux.fromIterable(batch.flush())))
+                .onErrorResume(DecodingException.class, e -> {
+                    if (index[0] == 0) {
+                        return Flux.error(e);
+                    }
+                    // The rest of the body cannot be read, keep the users parsed so far
+                    return Flux.fromIterable(batch.flush())
+                        .concatWith(Mono.just(new UserImportResult()
+                            .index(index[0])
+                            .status(StatusEnum.INVALID)
+                            .message("Malformed JSON: " + e.getMessage())));
+                });
+        });
+    }
+
+    private void importUsers(JsonParser parser, JsonToken token, Results results) throws IOException {
+        Batch batch = new Batch();
+        long index = 0;
+        try {
+            while (token != null && token != JsonToken.END_ARRAY) {
+                // A tree only fails on malformed JSON, binding errors are reported per user
+                JsonNode node = parser.readValueAsTree();
+                batch.add(index++, node);
+                if (batch.size() == batchSize) {
+                    batch.store(results);
+                }
+                token = parser.nextToken();
+            }
+            batch.store(results);
+        } catch (JsonParseException e) {
+            // The rest of the body cannot be read, keep the users parsed so far
+            batch.store(results);
+            results.write(new UserImportResult()
+                .index(index)
+                .status(StatusEnum.INVALID)
+                .message("Malformed JSON: " + e.getOriginalMessage()));
+        }
+    }
+
+    /**
+     * @return the reason why the user cannot be imported or null if it is valid
+     */
+    static String validate(User user) {
+        if (user.getUsername() == null || user.getUsername().isBlank()) {
+            return "Username is required";
+        }
+        if (user.getEmail() != null && user.getEmail().indexOf('@') < 1) {
+            return "Invalid email " + user.getEmail();
+        }
+        return null;
+    }
+
+    /**
+     * Results of the current batch in input order, with the valid users waiting to be stored.
+     */
+    private class Batch {
+
+        private final List<UserImportResult> results = new ArrayList<>(batchSize);
+        private final List<User> users = new ArrayList<>(batchSize);
+        private final List<UserImportResult> userResults = new ArrayList<>(batchSize);
+
+        void add(long index, JsonNode node) throws IOException {
+            var result = new UserImportResult().index(index);
+            results.add(result);
+            User user;
+            try {
+                user = userReader.readValue(node);
+            } catch (JsonProcessingException e) {
+                result.status(StatusEnum.INVALID).message("Invalid user: " + e.getOriginalMessage());
+                return;
+            }
+            result.username(user.getUsername());
+            String invalid = validate(user);
+            if (invalid != null) {
+                result.status(StatusEnum.INVALID).message(invalid);
+                return;
+            }
+            users.add(user);
+            userResults.add(result);
+        }
+
+        int size() {
+            return results.size();
+        }
+
+        void store(Results results) throws IOException {
+            for (UserImportResult result : flush()) {
+                results.write(result);
+            }
+            results.flush();
+        }
+
+        /**
+         * Stores the valid users of the batch and starts the next one.
+         *
+         * @return the results of the batch in input order
+         */
+        List<UserImportResult> flush() {
+            if (!users.isEmpty()) {
+                boolean[] created = userRepository.createAll(users);
+                for (int i = 0; i < created.length; i++) {
+                    if (created[i]) {
+                        userResults.get(i).status(StatusEnum.CREATED);
+                    } else {
+                        userResults.get(i).status(StatusEnum.CONFLICT).message("Username already exists");
+                    }
+                }
+            }
+            List<UserImportResult> flushed = new ArrayList<>(results);
+            results.clear();
+            users.clear();
+            userResults.clear();
+            return flushed;
+        }
+    }
+
+    /**
+     * Receives the results of an import once the body is known to be a list of users.
+     */
+    private interface Results extends AutoCloseable {
+
+        default void start() throws IOException {
+        }
+
+        void write(UserImportResult result) throws IOException;
+
+        /**
+         * Called after every batch.
+         */
+        default void flush() throws IOException {
+        }
+
+        @Override
+        default void close() throws IOException {
+        }
+    }
+
+    /**
+     * Writes the results as JSON array to the servlet response.
+     */
+    private class ResultWriter implements Results {
+
+        private final HttpServletResponse response;
+        private JsonGenerator generator;
+
+        ResultWriter(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void start() throws IOException {
+            response.setStatus(HttpStatus.OK.value());
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            generator = objectMapper.createGenerator(response.getOutputStream());
+            generator.writeStartArray();
+        }
+
+        @Override
+        public void write(UserImportResult result) throws IOException {
+            resultWriter.writeValue(generator, result);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Sends the results of the batch, the client sees the progress of long imports
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.writeEndArray();
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.paloit.server.petstore.metrics;
+
+import com.paloit.server.petstore.warmup.StartupWarmUp;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.swagger.v3.oas.annotations.Operation;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.boot.web.servlet.error.DefaultErrorAttributes;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Times every call of an OpenAPI operation and the delegate behind it, tagged by operationId, HTTP
+ * status, outcome and exception.
+ *
+ * The meters of all operations are resolved when the interceptor is created and the timers per
+ * status are kept in an array, so recording a request looks up no tags and allocates nothing. The
+ * start time is kept in a thread local instead of a request attribute. Only requests handled on the
+ * servlet thread are measured, async requests are skipped.
+ *
+ * Besides the {@code petstore.operation} timer, the CPU time the request thread spent in an
+ * operation is counted in {@code petstore.operation.cpu.time}, which shows which operations burn
+ * CPU rather than wait. The JVM reports no CPU time for virtual threads, so requests running on
+ * virtual threads ({@code petstore.server.request-threads=VIRTUAL}) are left out of that counter.
+ *
+ * The requests of the startup warm-up are not measured, they would leave client errors and the
+ * cost of the first calls in the meters.
+ */
+@Slf4j
+public class OperationMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    /** Exception handled by an exception resolver, stored by Spring Boot's error attributes. */
+    private static final String ERROR_ATTRIBUTE = DefaultErrorAttributes.class.getName() + ".ERROR";
+    private static final ThreadLocal<Recording> RECORDING = ThreadLocal.withInitial(Recording::new);
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Map<Method, OperationMeters> operations;
+    private final boolean cpuTimeSupported;
+
+    /**
+     * @param registry registry of the meters
+     * @param percentileHistogram whether the timers publish histogram buckets, e.g. for Prometheus quantiles
+     * @param apis generated api interfaces whose request mappings are operations
+     */
+    public OperationMetricsInterceptor(MeterRegistry registry, boolean percentileHistogram, Class<?>... apis) {
+        Map<Method, OperationMeters> operations = new HashMap<>();
+        for (Class<?> api : apis) {
+            for (Method method : api.getMethods()) {
+                if (AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class)) {
+                    operations.put(method, new OperationMeters(operationId(method), registry, percentileHistogram));
+                }
+            }
+        }
+        this.operations = Collections.unmodifiableMap(operations);
+        this.cpuTimeSupported = THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+        log.debug("Operation metrics for {} operations, CPU time {}", operations.size(), cpuTimeSupported);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getHeader(StartupWarmUp.WARM_UP_HEADER) == null) {
+            OperationMeters meters = operations.get(((HandlerMethod) handler).getMethod());
+            if (meters != null) {
+                Recording recording = RECORDING.get();
+                recording.meters = meters;
+                recording.cpuStart = cpuTime();
+                recording.start = System.nanoTime();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RECORDING.get().meters = null;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Recording recording = RECORDING.get();
+        OperationMeters meters = recording.meters;
+        if (meters == null) {
+            return;
+        }
+        recording.meters = null;
+        long elapsed = System.nanoTime() - recording.start;
+        long cpuEnd = cpuTime();
+
+        Throwable error = ex != null ? ex : (Throwable) request.getAttribute(ERROR_ATTRIBUTE);
+        meters.timer(response.getStatus(), error).record(elapsed, TimeUnit.NANOSECONDS);
+        // -1 on virtual threads, which would count as zero CPU time
+        if (cpuTimeSupported && recording.cpuStart >= 0 && cpuEnd >= 0) {
+            meters.cpuTime.increment((cpuEnd - recording.cpuStart) / 1e9);
+        }
+    }
+
+    /**
+     * @return operationId of the {@link Operation} annotation, otherwise the method name, which the
+     *     generator takes from the operationId
+     */
+    static String operationId(Method method) {
+        Operation operation = AnnotatedElementUtils.findMergedAnnotation(method, Operation.class);
+        return operation != null && !operation.operationId().isEmpty() ? operation.operationId() : method.getName();
+    }
+
+    private long cpuTime() {
+        return cpuTimeSupported ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * Operation and start of the request handled by the current thread.
+     */
+    private static final class Recording {
+        private OperationMeters meters;
+        private long start;
+        private long cpuStart;
+    }
+
+    /**
+     * Meters of one operation. Timers of requests without exception are cached per status.
+     */
+    private static final class OperationMeters {
+
+        private static final int MAX_STATUS = 600;
+
+        private final String operationId;
+        private final MeterRegistry registry;
+        private final boolean percentileHistogram;
+        private final AtomicReferenceArray<Timer> timersByStatus = new AtomicReferenceArray<>(MAX_STATUS);
+        private final Counter cpuTime;
+
+        OperationMeters(String operationId, MeterRegistry registry, boolean percentileHistogram) {
+            this.operationId = operationId;
+            this.registry = registry;
+            this.percentileHistogram = percentileHistogram;
+            this.cpuTime = Counter.builder("petstore.operation.cpu.time")
+                .description("CPU time of the request threads in the operation")
+                .baseUnit("seconds")
+                .tag("operationId", operationId)
+                .register(registry);
+            // The common statuses are registered up front, so they show up before the first request
+            timer(200, null);
+        }
+
+        Timer timer(int status, Throwable error) {
+            if (error != null || status < 0 || status >= MAX_STATUS) {
+                return register(status, error);
+            }
+            Timer timer = timersByStatus.get(status);
+            if (timer == null) {
+                // Registering twice returns the same timer, so a race is harmless
+                timer = register(status, null);
+                timersByStatus.set(status, timer);
+            }
+            return timer;
+        }
+
+        private Timer register(int status, Throwable error) {
+            return Timer.builder("petstore.operation")
+                .description("Calls of the OpenAPI operation and its delegate")
+                .tag("operationId", operationId)
+                .tag("status", String.valueOf(status))
+                .tag("outcome", Outcome.forStatus(status).name())
+                .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+        }
+    }
+}
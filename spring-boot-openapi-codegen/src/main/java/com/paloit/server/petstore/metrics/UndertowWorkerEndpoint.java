@@ -0,0 +1,131 @@
+package com.paloit.server.petstore.metrics;
+
+import com.paloit.config.UndertowConfig;
+import com.paloit.config.UndertowTuning;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import org.xnio.XnioWorker;
+import org.xnio.management.XnioWorkerMXBean;
+
+/**
+ * Live utilisation of the Undertow worker pool under {@code /actuator/undertow}, next to the sizes
+ * the server was started with, to size the pool and the number of replicas from measurements.
+ *
+ * A pool whose busy threads stay at its size while requests wait in the queue is saturated: more
+ * worker threads help if the requests wait on I/O, more replicas if they use the CPU. The same
+ * values are exported as {@code petstore.undertow.worker.*} gauges, to follow them over time.
+ *
+ * The pool of XNIO reports no busy threads, so busy counts the servlet requests running on the
+ * pool, see UndertowConfig.RequestThreadsCustomizer. In reactive mode requests run on the I/O
+ * threads, and busy and utilisation are left out.
+ *
+ * With {@code petstore.server.request-threads} VIRTUAL the servlet requests do not run on the worker
+ * pool, which then stays idle. The mode is reported under {@code requestThreads}, and the requests
+ * running on virtual threads under {@code virtualThreads} and as {@code petstore.undertow.virtual.*}
+ * gauges instead.
+ */
+@Component
+@Endpoint(id = "undertow")
+public class UndertowWorkerEndpoint implements MeterBinder {
+
+    private final XnioWorkerMXBean worker;
+    private final UndertowTuning tuning;
+    private final UndertowConfig.RequestThreadsCustomizer requestThreads;
+
+    /**
+     * @param undertowWorker worker of the server, see UndertowConfig
+     * @param undertowTuning sizes of the server
+     * @param requestThreadsCustomizer threads of the servlet requests, missing in reactive mode
+     */
+    public UndertowWorkerEndpoint(XnioWorker undertowWorker, UndertowTuning undertowTuning,
+        ObjectProvider<UndertowConfig.RequestThreadsCustomizer> requestThreadsCustomizer) {
+        this.worker = undertowWorker.getMXBean();
+        this.tuning = undertowTuning;
+        this.requestThreads = requestThreadsCustomizer.getIfAvailable();
+    }
+
+    /**
+     * @return utilisation of the worker pool and sizes of the server
+     */
+    @ReadOperation
+    public Map<String, Object> undertow() {
+        int maxPoolSize = worker.getMaxWorkerPoolSize();
+        Map<String, Object> pool = new LinkedHashMap<>();
+        pool.put("maxSize", maxPoolSize);
+        pool.put("size", worker.getWorkerPoolSize());
+        if (requestThreads != null) {
+            int busy = busyWorkerThreads();
+            pool.put("busy", busy);
+            pool.put("utilisation", maxPoolSize > 0 ? (double) busy / maxPoolSize : 0);
+        }
+        pool.put("queueSize", worker.getWorkerQueueSize());
+
+        Map<String, Object> sizes = new LinkedHashMap<>();
+        sizes.put("ioThreads", tuning.getIoThreads());
+        sizes.put("workerThreads", tuning.getWorkerThreads());
+        sizes.put("bufferSize", tuning.getBufferSize());
+        sizes.put("directBuffers", tuning.isDirectBuffers());
+        sizes.put("maxEntitySize", tuning.getMaxEntitySize());
+        sizes.put("maxConnections", tuning.getMaxConnections());
+        sizes.put("connectionLowWater", tuning.getConnectionLowWater());
+        sizes.put("http2", tuning.isHttp2());
+
+        Map<String, Object> undertow = new LinkedHashMap<>();
+        if (requestThreads != null) {
+            undertow.put("requestThreads", requestThreads.getRequestThreads());
+        }
+        undertow.put("workerPool", pool);
+        if (isVirtual()) {
+            Map<String, Object> virtual = new LinkedHashMap<>();
+            virtual.put("running", requestThreads.getRunningRequests());
+            virtual.put("started", requestThreads.getStartedRequests());
+            undertow.put("virtualThreads", virtual);
+        }
+        undertow.put("tuning", sizes);
+        return undertow;
+    }
+
+    /**
+     * @return servlet requests running on the worker pool, none with virtual threads
+     */
+    private int busyWorkerThreads() {
+        return isVirtual() ? 0 : requestThreads.getRunningRequests();
+    }
+
+    private boolean isVirtual() {
+        return requestThreads != null && requestThreads.getRequestThreads() == UndertowConfig.RequestThreads.VIRTUAL;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("petstore.undertow.worker.threads", worker, XnioWorkerMXBean::getWorkerPoolSize)
+            .description("Threads of the Undertow worker pool")
+            .register(registry);
+        Gauge.builder("petstore.undertow.worker.queue", worker, XnioWorkerMXBean::getWorkerQueueSize)
+            .description("Tasks waiting for a worker thread")
+            .register(registry);
+        if (requestThreads != null) {
+            Gauge.builder("petstore.undertow.worker.busy", this, UndertowWorkerEndpoint::busyWorkerThreads)
+                .description("Worker threads running a servlet request")
+                .register(registry);
+        }
+        if (isVirtual()) {
+            Gauge.builder("petstore.undertow.virtual.running", requestThreads,
+                    UndertowConfig.RequestThreadsCustomizer::getRunningRequests)
+                .description("Requests running on virtual threads")
+                .register(registry);
+            FunctionCounter.builder("petstore.undertow.virtual.started", requestThreads,
+                    UndertowConfig.RequestThreadsCustomizer::getStartedRequests)
+                .description("Requests started on virtual threads")
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.paloit.server.petstore.repository;
+
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Pet.StatusEnum;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link PetIndex} keeping the pet ids in compressed {@link LongBitmap}s.
+ *
+ * Takes a fraction of the memory of the sorted set index for large catalogues, because ids are not
+ * boxed and dense id ranges are stored as one bit per pet. Bitmaps are guarded by their own monitor.
+ * Queries copy the ids in small chunks under the monitor while they are iterated, so a page of
+ * results only pays for the ids it reads and not for the rest of the catalogue. Ids written while a
+ * query runs may or may not be returned.
+ */
+class BitmapPetIndex implements PetIndex {
+
+    /** Ids copied by the first chunk of a query, the following chunks double up to the maximum. */
+    static final int MIN_CHUNK_SIZE = 64;
+    static final int MAX_CHUNK_SIZE = 1024;
+
+    private final Map<StatusEnum, LongBitmap> byStatus = new EnumMap<>(StatusEnum.class);
+    private final ConcurrentHashMap<String, LongBitmap> byTag = new ConcurrentHashMap<>();
+
+    BitmapPetIndex() {
+        for (StatusEnum status : StatusEnum.values()) {
+            byStatus.put(status, new LongBitmap());
+        }
+    }
+
+    @Override
+    public void update(long id, Pet previous, Pet current) {
+        StatusEnum previousStatus = previous == null ? null : previous.getStatus();
+        StatusEnum currentStatus = current == null ? null : current.getStatus();
+        if (previousStatus != currentStatus) {
+            if (previousStatus != null) {
+                LongBitmap ids = byStatus.get(previousStatus);
+                synchronized (ids) {
+                    ids.remove(id);
+                }
+            }
+            if (currentStatus != null) {
+                LongBitmap ids = byStatus.get(currentStatus);
+                synchronized (ids) {
+                    ids.add(id);
+                }
+            }
+        }
+
+        Set<String> previousTags = PetIndex.tagNames(previous);
+        Set<String> currentTags = PetIndex.tagNames(current);
+        for (String tag : previousTags) {
+            if (!currentTags.contains(tag)) {
+                byTag.computeIfPresent(tag, (name, ids) -> {
+                    synchronized (ids) {
+                        ids.remove(id);
+                        return ids.isEmpty() ? null : ids;
+                    }
+                });
+            }
+        }
+        for (String tag : currentTags) {
+            if (!previousTags.contains(tag)) {
+                byTag.compute(tag, (name, ids) -> {
+                    LongBitmap postings = ids == null ? new LongBitmap() : ids;
+                    synchronized (postings) {
+                        postings.add(id);
+                    }
+                    return postings;
+                });
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong idsByStatus(StatusEnum status, long fromId) {
+        return new ChunkIterator(byStatus.get(status), List.of(), fromId);
+    }
+
+    /**
+     * Iterates the smallest tag bitmap from the given id on and keeps the ids of every chunk which
+     * are contained in the other ones.
+     */
+    @Override
+    public PrimitiveIterator.OfLong idsByTags(Collection<String> tags, long fromId) {
+        List<LongBitmap> postings = new ArrayList<>();
+        for (String tag : new HashSet<>(tags)) {
+            LongBitmap ids = byTag.get(tag);
+            if (ids == null) {
+                return new LongBitmap().iterator();
+            }
+            postings.add(ids);
+        }
+        if (postings.isEmpty()) {
+            return new LongBitmap().iterator();
+        }
+        postings.sort(Comparator.comparingLong(BitmapPetIndex::cardinality));
+        return new ChunkIterator(postings.get(0), postings.subList(1, postings.size()), fromId);
+    }
+
+    /**
+     * @return approximate heap size of all bitmaps in bytes
+     */
+    long sizeInBytes() {
+        long bytes = 0;
+        for (LongBitmap ids : byStatus.values()) {
+            synchronized (ids) {
+                bytes += ids.sizeInBytes();
+            }
+        }
+        for (LongBitmap ids : byTag.values()) {
+            synchronized (ids) {
+                bytes += ids.sizeInBytes();
+            }
+        }
+        return bytes;
+    }
+
+    private static long cardinality(LongBitmap ids) {
+        synchronized (ids) {
+            return ids.cardinality();
+        }
+    }
+
+    /**
+     * Iterates the ids of a bitmap which are contained in all other bitmaps. Each chunk is copied
+     * under the monitor of the bitmap and then filtered under the monitor of each other bitmap, so
+     * writers wait for at most one chunk.
+     */
+    private static final class ChunkIterator implements PrimitiveIterator.OfLong {
+
+        private final LongBitmap ids;
+        private final List<LongBitmap> containedIn;
+        private long[] chunk;
+        private int position;
+        private int count;
+        private long nextFrom;
+        private boolean exhausted;
+
+        ChunkIterator(LongBitmap ids, List<LongBitmap> containedIn, long fromId) {
+            this.ids = ids;
+            this.containedIn = containedIn;
+            this.nextFrom = fromId;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (position == count && !exhausted) {
+                nextChunk();
+            }
+            return position < count;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunk[position++];
+        }
+
+        private void nextChunk() {
+            // A small first chunk for short pages, larger ones for long scans
+            if (chunk == null) {
+                chunk = new long[MIN_CHUNK_SIZE];
+            } else if (chunk.length < MAX_CHUNK_SIZE) {
+                chunk = new long[chunk.length * 2];
+            }
+            int copied;
+            synchronized (ids) {
+                copied = ids.copyValues(nextFrom, chunk);
+            }
+            long last = copied == 0 ? Long.MAX_VALUE : chunk[copied - 1];
+            exhausted = copied < chunk.length || last == Long.MAX_VALUE;
+            nextFrom = last + 1;
+            position = 0;
+            count = copied;
+            for (LongBitmap other : containedIn) {
+                count = retainContained(other, count);
+            }
+        }
+
+        private int retainContained(LongBitmap other, int copied) {
+            int kept = 0;
+            synchronized (other) {
+                for (int i = 0; i < copied; i++) {
+                    if (other.contains(chunk[i])) {
+                        chunk[kept++] = chunk[i];
+                    }
+                }
+            }
+            return kept;
+        }
+    }
+}
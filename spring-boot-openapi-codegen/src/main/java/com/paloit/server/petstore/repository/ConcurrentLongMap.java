@@ -0,0 +1,344 @@
+package com.paloit.server.petstore.repository;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Concurrent hash map keyed by primitive {@code long} values.
+ *
+ * Keys are never boxed. The map is split into segments which are locked for writes only,
+ * reads walk an immutable chain of nodes and never block.
+ *
+ * @param <V> value type
+ */
+public class ConcurrentLongMap<V> {
+
+    private static final int DEFAULT_SEGMENTS = 64;
+    private static final int DEFAULT_SEGMENT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Segment<V>[] segments;
+    private final int segmentMask;
+    private final int segmentShift;
+
+    public ConcurrentLongMap() {
+        this(DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * @param concurrencyLevel number of segments which can be written in parallel, rounded up to a power of two
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentLongMap(int concurrencyLevel) {
+        int size = 1;
+        while (size < concurrencyLevel) {
+            size <<= 1;
+        }
+        this.segments = new Segment[size];
+        this.segmentMask = size - 1;
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(size);
+        for (int i = 0; i < size; i++) {
+            segments[i] = new Segment<>(DEFAULT_SEGMENT_CAPACITY);
+        }
+    }
+
+    /**
+     * Returns the value stored for the key or null.
+     */
+    public V get(long key) {
+        int hash = hash(key);
+        return segmentFor(hash).get(key, hash);
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Stores the value for the key.
+     *
+     * @return the previous value or null
+     */
+    public V put(long key, V value) {
+        requireValue(value);
+        int hash = hash(key);
+        return segmentFor(hash).put(key, hash, value, false);
+    }
+
+    /**
+     * Stores the value only if no value is stored for the key yet.
+     *
+     * @return the present value or null if the value has been stored
+     */
+    public V putIfAbsent(long key, V value) {
+        requireValue(value);
+        int hash = hash(key);
+        return segmentFor(hash).put(key, hash, value, true);
+    }
+
+    /**
+     * Replaces the value for the key with the result of the given function, if a value is present.
+     * The function is applied while holding the segment lock, so it must be short and must not
+     * access this map.
+     *
+     * @return the new value or null if no value was present
+     */
+    public V computeIfPresent(long key, UnaryOperator<V> remapping) {
+        int hash = hash(key);
+        return segmentFor(hash).computeIfPresent(key, hash, remapping);
+    }
+
+    /**
+     * Replaces the value for the key with the result of the given function, which receives the current
+     * value or null. A null result removes the entry. The function is applied while holding the segment
+     * lock, so it must be short and must not access this map.
+     *
+     * @return the new value or null if the entry has been removed
+     */
+    public V compute(long key, UnaryOperator<V> remapping) {
+        int hash = hash(key);
+        return segmentFor(hash).compute(key, hash, remapping);
+    }
+
+    /**
+     * Removes the value for the key.
+     *
+     * @return the removed value or null
+     */
+    public V remove(long key) {
+        int hash = hash(key);
+        return segmentFor(hash).remove(key, hash);
+    }
+
+    /**
+     * Returns the number of entries. Not an atomic snapshot while the map is written concurrently.
+     */
+    public int size() {
+        long size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.count;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Visits all entries. Weakly consistent: entries written concurrently may or may not be visited.
+     */
+    public void forEach(LongObjConsumer<? super V> action) {
+        for (Segment<V> segment : segments) {
+            Node<V>[] table = segment.table;
+            for (Node<V> head : table) {
+                for (Node<V> node = head; node != null; node = node.next) {
+                    V value = node.value;
+                    if (value != null) {
+                        action.accept(node.key, value);
+                    }
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment<V> segmentFor(int hash) {
+        return segments[segmentIndex(hash)];
+    }
+
+    /**
+     * The segment is selected with the top bits of the hash and the bucket with the bottom bits,
+     * so the two stay independent however large the tables of the segments grow. The mask only
+     * matters for a single segment, where the shift of 32 would be a shift of 0.
+     */
+    int segmentIndex(int hash) {
+        return (hash >>> segmentShift) & segmentMask;
+    }
+
+    private static void requireValue(Object value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+    }
+
+    /**
+     * Spreads the bits of the key so that sequential ids are distributed over segments and buckets.
+     */
+    static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Consumer of a primitive long key and an object value.
+     */
+    @FunctionalInterface
+    public interface LongObjConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private static final class Node<V> {
+        final long key;
+        final int hash;
+        volatile V value;
+        final Node<V> next;
+
+        Node(long key, int hash, V value, Node<V> next) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A segment is a small hash table with chained buckets. Nodes are immutable except for their value,
+     * removals and resizes copy the affected chain prefix so that readers always see a consistent chain.
+     */
+    private static final class Segment<V> {
+
+        volatile Node<V>[] table;
+        volatile int count;
+        private int threshold;
+
+        Segment(int capacity) {
+            setTable(newTable(capacity));
+        }
+
+        V get(long key, int hash) {
+            Node<V>[] tab = table;
+            for (Node<V> node = tab[hash & (tab.length - 1)]; node != null; node = node.next) {
+                if (node.key == key) {
+                    return node.value;
+                }
+            }
+            return null;
+        }
+
+        synchronized V put(long key, int hash, V value, boolean onlyIfAbsent) {
+            Node<V>[] tab = table;
+            int index = hash & (tab.length - 1);
+            Node<V> head = tab[index];
+            for (Node<V> node = head; node != null; node = node.next) {
+                if (node.key == key) {
+                    V previous = node.value;
+                    if (!onlyIfAbsent) {
+                        node.value = value;
+                    }
+                    return previous;
+                }
+            }
+            insert(key, hash, value);
+            return null;
+        }
+
+        synchronized V compute(long key, int hash, UnaryOperator<V> remapping) {
+            Node<V>[] tab = table;
+            Node<V> node = tab[hash & (tab.length - 1)];
+            while (node != null && node.key != key) {
+                node = node.next;
+            }
+            V newValue = remapping.apply(node == null ? null : node.value);
+            if (newValue == null) {
+                if (node != null) {
+                    removeNode(key, hash);
+                }
+            } else if (node != null) {
+                node.value = newValue;
+            } else {
+                insert(key, hash, newValue);
+            }
+            return newValue;
+        }
+
+        synchronized V computeIfPresent(long key, int hash, UnaryOperator<V> remapping) {
+            Node<V>[] tab = table;
+            for (Node<V> node = tab[hash & (tab.length - 1)]; node != null; node = node.next) {
+                if (node.key == key) {
+                    V newValue = remapping.apply(node.value);
+                    if (newValue == null) {
+                        removeNode(key, hash);
+                        return null;
+                    }
+                    node.value = newValue;
+                    return newValue;
+                }
+            }
+            return null;
+        }
+
+        synchronized V remove(long key, int hash) {
+            return removeNode(key, hash);
+        }
+
+        synchronized void clear() {
+            setTable(newTable(DEFAULT_SEGMENT_CAPACITY));
+            count = 0;
+        }
+
+        private void insert(long key, int hash, V value) {
+            Node<V>[] tab = table;
+            int newCount = count + 1;
+            if (newCount > threshold) {
+                tab = rehash(tab);
+            }
+            int index = hash & (tab.length - 1);
+            tab[index] = new Node<>(key, hash, value, tab[index]);
+            // Volatile writes publish the new node to readers
+            table = tab;
+            count = newCount;
+        }
+
+        private V removeNode(long key, int hash) {
+            Node<V>[] tab = table;
+            int index = hash & (tab.length - 1);
+            Node<V> head = tab[index];
+            Node<V> target = head;
+            while (target != null && target.key != key) {
+                target = target.next;
+            }
+            if (target == null) {
+                return null;
+            }
+            V previous = target.value;
+            // Nodes behind the removed one are reused, the ones in front of it are copied
+            Node<V> newHead = target.next;
+            for (Node<V> node = head; node != target; node = node.next) {
+                newHead = new Node<>(node.key, node.hash, node.value, newHead);
+            }
+            tab[index] = newHead;
+            table = tab;
+            count = count - 1;
+            return previous;
+        }
+
+        private Node<V>[] rehash(Node<V>[] oldTable) {
+            Node<V>[] newTab = newTable(oldTable.length << 1);
+            int mask = newTab.length - 1;
+            for (Node<V> head : oldTable) {
+                for (Node<V> node = head; node != null; node = node.next) {
+                    int index = node.hash & mask;
+                    // Copy nodes so that readers still traversing the old table are not affected
+                    newTab[index] = new Node<>(node.key, node.hash, node.value, newTab[index]);
+                }
+            }
+            setTable(newTab);
+            return newTab;
+        }
+
+        private void setTable(Node<V>[] newTable) {
+            threshold = (int) (newTable.length * LOAD_FACTOR);
+            table = newTable;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <V> Node<V>[] newTable(int capacity) {
+            return (Node<V>[]) new Node[capacity];
+        }
+    }
+}
@@ -0,0 +1,512 @@
+package com.paloit.server.petstore.repository;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Compressed bitmap of long values in the style of Roaring bitmaps.
+ *
+ * Values are split into the high 48 bits, which select a container, and the low 16 bits, which are
+ * stored in the container. Sparse containers keep a sorted array of the low bits, dense containers
+ * a bitmap of 1024 words, so intersections and unions of dense parts run word by word.
+ *
+ * Not thread-safe, callers synchronize on the instance.
+ */
+final class LongBitmap {
+
+    private long[] keys = new long[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    void add(long value) {
+        long key = value >> 16;
+        char low = (char) value;
+        int index = indexOf(key);
+        if (index >= 0) {
+            containers[index] = containers[index].add(low);
+        } else {
+            insertContainer(-index - 1, key, new ArrayContainer().add(low));
+        }
+    }
+
+    void remove(long value) {
+        int index = indexOf(value >> 16);
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index].remove((char) value);
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = container;
+        }
+    }
+
+    boolean contains(long value) {
+        int index = indexOf(value >> 16);
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return approximate heap size of the bitmap in bytes, without object headers
+     */
+    long sizeInBytes() {
+        long bytes = keys.length * 8L + containers.length * 4L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Copies the values from the given one on until the buffer is full, so a caller holding the
+     * monitor only pays for the values it takes and not for the rest of the bitmap.
+     *
+     * @param from smallest value to copy
+     * @param buffer receives the values in ascending order
+     * @return number of values copied, less than the buffer length if there are no more values
+     */
+    int copyValues(long from, long[] buffer) {
+        PrimitiveIterator.OfLong values = iteratorFrom(from);
+        int count = 0;
+        while (count < buffer.length && values.hasNext()) {
+            buffer[count++] = values.nextLong();
+        }
+        return count;
+    }
+
+    /**
+     * @return new bitmap with the values contained in both bitmaps
+     */
+    LongBitmap and(LongBitmap other) {
+        LongBitmap result = new LongBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            int compare = Long.compare(keys[i], other.keys[j]);
+            if (compare < 0) {
+                i++;
+            } else if (compare > 0) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.appendContainer(keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return new bitmap with the values contained in any of the bitmaps
+     */
+    LongBitmap or(LongBitmap other) {
+        LongBitmap result = new LongBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            int compare = i == size ? 1 : j == other.size ? -1 : Long.compare(keys[i], other.keys[j]);
+            if (compare < 0) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (compare > 0) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return iterator over the values in ascending order
+     */
+    PrimitiveIterator.OfLong iterator() {
+        return iteratorFrom(Long.MIN_VALUE);
+    }
+
+    /**
+     * @param from smallest value to return
+     * @return iterator over the values greater than or equal to {@code from} in ascending order
+     */
+    PrimitiveIterator.OfLong iteratorFrom(long from) {
+        return new PrimitiveIterator.OfLong() {
+
+            private int containerIndex = firstContainerFrom(from >> 16);
+            private long next = Long.MIN_VALUE;
+            private boolean hasNext = advance((containerIndex < size && keys[containerIndex] == from >> 16) ? (char) from : 0);
+
+            private boolean advance(int low) {
+                while (containerIndex < size) {
+                    int value = containers[containerIndex].nextValue(low);
+                    if (value >= 0) {
+                        next = (keys[containerIndex] << 16) | value;
+                        return true;
+                    }
+                    containerIndex++;
+                    low = 0;
+                }
+                return false;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return hasNext;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext) {
+                    throw new NoSuchElementException();
+                }
+                long current = next;
+                int low = (int) (current & 0xFFFF) + 1;
+                if (low > 0xFFFF) {
+                    containerIndex++;
+                    low = 0;
+                }
+                hasNext = advance(low);
+                return current;
+            }
+        };
+    }
+
+    private int firstContainerFrom(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int indexOf(long key) {
+        // Appending ascending ids is the common case
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void appendContainer(long key, Container container) {
+        insertContainer(size, key, container);
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    /**
+     * Container of the low 16 bits of the values sharing the same high bits. Mutations return the
+     * container to use from then on, which may be a converted one.
+     */
+    private abstract static class Container {
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract long sizeInBytes();
+
+        abstract Container copy();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        /**
+         * @return the smallest value greater than or equal to {@code from} or -1
+         */
+        abstract int nextValue(int from);
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        /** Above this cardinality a bitmap container takes less memory. */
+        static final int MAX_SIZE = 4096;
+
+        char[] values;
+        int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality >= MAX_SIZE) {
+                return toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.max(4, Math.min(cardinality * 2, MAX_SIZE)));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return values.length * 2L + 4;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[Math.min(cardinality, other.cardinality())];
+            int count = 0;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer array = (ArrayContainer) other;
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            Container result = copy();
+            ArrayContainer array = (ArrayContainer) other;
+            for (int i = 0; i < array.cardinality; i++) {
+                result = result.add(array.values[i]);
+            }
+            return result;
+        }
+
+        @Override
+        int nextValue(int from) {
+            if (from > 0xFFFF) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) from);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < cardinality ? values[index] : -1;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        final long[] words;
+        int cardinality;
+
+        BitmapContainer() {
+            this(new long[1024], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            long word = words[value >>> 6];
+            long updated = word | (1L << value);
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long word = words[value >>> 6];
+            long updated = word & ~(1L << value);
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality--;
+                if (cardinality <= ArrayContainer.MAX_SIZE) {
+                    return toArray();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return words.length * 8L + 4;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[words.length];
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                result[i] = words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapContainer bitmap = new BitmapContainer(result, count);
+            return count > ArrayContainer.MAX_SIZE ? bitmap : bitmap.toArray();
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer result = (BitmapContainer) copy();
+            if (other instanceof ArrayContainer) {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; i++) {
+                    result.add(array.values[i]);
+                }
+                return result;
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < result.words.length; i++) {
+                result.words[i] |= otherWords[i];
+                count += Long.bitCount(result.words[i]);
+            }
+            result.cardinality = count;
+            return result;
+        }
+
+        @Override
+        int nextValue(int from) {
+            int wordIndex = from >>> 6;
+            if (wordIndex >= words.length) {
+                return -1;
+            }
+            long word = words[wordIndex] & (-1L << from);
+            while (true) {
+                if (word != 0) {
+                    return wordIndex * 64 + Long.numberOfTrailingZeros(word);
+                }
+                if (++wordIndex == words.length) {
+                    return -1;
+                }
+                word = words[wordIndex];
+            }
+        }
+
+        ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.paloit.server.petstore.repository;
+
+import com.paloit.server.petstore.model.Order;
+import com.paloit.server.petstore.model.Order.StatusEnum;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Repository;
+
+/**
+ * In-memory order store backed by a {@link ConcurrentLongMap}.
+ *
+ * Like the {@link PetRepository} it stores copies of the orders, so returned orders can be read
+ * without locking. The ordered quantity per order status is counted on every write.
+ */
+@Repository
+public class OrderRepository {
+
+    private final ConcurrentLongMap<Order> orders = new ConcurrentLongMap<>();
+    private final StatusCounters<StatusEnum> quantities = new StatusCounters<>(StatusEnum.class);
+    private final AtomicLong idSequence = new AtomicLong();
+
+    /**
+     * @param id order id
+     * @return the order or empty if the id is unknown
+     */
+    public Optional<Order> findById(long id) {
+        return Optional.ofNullable(orders.get(id));
+    }
+
+    /**
+     * Stores a new order or replaces an existing one with the same id.
+     * An order without id gets the next free id assigned.
+     *
+     * @param order order to store
+     * @return the stored order
+     */
+    public Order save(Order order) {
+        Order stored = copyOf(order);
+        if (stored.getId() == null) {
+            stored.setId(nextId());
+        } else {
+            idSequence.accumulateAndGet(stored.getId(), Math::max);
+        }
+        orders.compute(stored.getId(), previous -> {
+            count(previous, stored);
+            return stored;
+        });
+        return stored;
+    }
+
+    /**
+     * @param id order id
+     * @return the removed order or empty if the id is unknown
+     */
+    public Optional<Order> deleteById(long id) {
+        Order[] removed = new Order[1];
+        orders.computeIfPresent(id, previous -> {
+            count(previous, null);
+            removed[0] = previous;
+            return null;
+        });
+        return Optional.ofNullable(removed[0]);
+    }
+
+    /**
+     * @param status order status
+     * @return sum of the quantities of all orders with the status
+     */
+    public long quantityByStatus(StatusEnum status) {
+        return quantities.sum(status);
+    }
+
+    /**
+     * Registers a listener which is called on the writing thread after the ordered quantities per status changed.
+     * It runs inside the write, so it must be cheap, e.g. only mark a cache as stale.
+     *
+     * @param listener change listener
+     */
+    public void onQuantityChange(Runnable listener) {
+        quantities.addListener(listener);
+    }
+
+    public int count() {
+        return orders.size();
+    }
+
+    private void count(Order previous, Order current) {
+        quantities.move(
+            previous == null ? null : previous.getStatus(), quantity(previous),
+            current == null ? null : current.getStatus(), quantity(current));
+    }
+
+    private static long quantity(Order order) {
+        return order == null || order.getQuantity() == null ? 0 : order.getQuantity();
+    }
+
+    private long nextId() {
+        long id;
+        do {
+            id = idSequence.incrementAndGet();
+        } while (orders.containsKey(id));
+        return id;
+    }
+
+    static Order copyOf(Order order) {
+        return new Order()
+            .id(order.getId())
+            .petId(order.getPetId())
+            .quantity(order.getQuantity())
+            .shipDate(order.getShipDate())
+            .status(order.getStatus())
+            .complete(order.getComplete());
+    }
+}
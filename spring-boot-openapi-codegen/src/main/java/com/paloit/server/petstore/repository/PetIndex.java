@@ -0,0 +1,80 @@
+package com.paloit.server.petstore.repository;
+
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Pet.StatusEnum;
+import com.paloit.server.petstore.model.Tag;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+/**
+ * Secondary indexes of the {@link PetRepository}: pet ids per status and an inverted index of pet ids
+ * per tag name.
+ *
+ * The index is maintained by the repository while it holds the lock for the pet id, so the index
+ * changes of a single pet are applied in the same order as the writes of that pet. Lookups may still
+ * see an id whose pet changed in between, callers re-check the stored pet.
+ *
+ * Ids are returned in ascending order, so a page of results can be continued from the last id of
+ * the previous page.
+ */
+public interface PetIndex {
+
+    /**
+     * Available index implementations, selected with the {@code petstore.pet-index} property.
+     */
+    enum Type {
+        /** Concurrent sorted sets of pet ids, fast for small and medium catalogues. */
+        SORTED_SET,
+        /** Compressed bitmaps of pet ids, compact for very large catalogues. */
+        BITMAP
+    }
+
+    static PetIndex create(Type type) {
+        switch (type) {
+            case BITMAP:
+                return new BitmapPetIndex();
+            case SORTED_SET:
+            default:
+                return new SortedSetPetIndex();
+        }
+    }
+
+    /**
+     * Moves the pet from the index entries of the previous version to the ones of the current version.
+     *
+     * @param id pet id
+     * @param previous previously stored pet or null
+     * @param current newly stored pet or null if the pet has been removed
+     */
+    void update(long id, Pet previous, Pet current);
+
+    /**
+     * @param status pet status
+     * @param fromId smallest id to return
+     * @return ids of the pets with the status in ascending order, starting at fromId
+     */
+    PrimitiveIterator.OfLong idsByStatus(StatusEnum status, long fromId);
+
+    /**
+     * @param tags tag names
+     * @param fromId smallest id to return
+     * @return ids of the pets which have all tags in ascending order, starting at fromId
+     */
+    PrimitiveIterator.OfLong idsByTags(Collection<String> tags, long fromId);
+
+    static Set<String> tagNames(Pet pet) {
+        if (pet == null || pet.getTags() == null || pet.getTags().isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new HashSet<>();
+        for (Tag tag : pet.getTags()) {
+            if (tag != null && tag.getName() != null) {
+                names.add(tag.getName());
+            }
+        }
+        return names;
+    }
+}
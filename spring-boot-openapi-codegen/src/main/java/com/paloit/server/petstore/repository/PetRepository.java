@@ -0,0 +1,335 @@
+package com.paloit.server.petstore.repository;
+
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Pet.StatusEnum;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+/**
+ * In-memory pet store backed by a {@link ConcurrentLongMap}.
+ *
+ * Stored pets are never modified in place. Every write stores a copy, so readers can serialize
+ * a pet returned by this repository without holding any lock.
+ *
+ * Status and tag indexes are updated inside the write of the pet, queries on them cost the size of
+ * the result instead of the size of the whole catalogue. The index implementation is selected with
+ * the {@code petstore.pet-index} property, see {@link PetIndex.Type}. The number of pets per status
+ * is kept in counters for the store inventory.
+ */
+@Repository
+public class PetRepository {
+
+    private final ConcurrentLongMap<Pet> pets = new ConcurrentLongMap<>();
+    private final PetIndex index;
+    private final StatusCounters<StatusEnum> statusCounts = new StatusCounters<>(StatusEnum.class);
+    private final AtomicLong idSequence = new AtomicLong();
+
+    /**
+     * @param indexType implementation of the status and tag indexes
+     */
+    public PetRepository(@Value("${petstore.pet-index:SORTED_SET}") PetIndex.Type indexType) {
+        this.index = PetIndex.create(indexType);
+    }
+
+    /**
+     * Find a pet by its id.
+     *
+     * @param id pet id
+     * @return the pet or empty if the id is unknown
+     */
+    public Optional<Pet> findById(long id) {
+        return Optional.ofNullable(pets.get(id));
+    }
+
+    public boolean existsById(long id) {
+        return pets.containsKey(id);
+    }
+
+    /**
+     * Stores a new pet or replaces an existing one with the same id.
+     * A pet without id gets the next free id assigned.
+     *
+     * @param pet pet to store
+     * @return the stored pet
+     */
+    public Pet save(Pet pet) {
+        Pet stored = copyOf(pet);
+        if (stored.getId() == null) {
+            stored.setId(nextId());
+        } else {
+            idSequence.accumulateAndGet(stored.getId(), Math::max);
+        }
+        long id = stored.getId();
+        pets.compute(id, previous -> {
+            indexed(id, previous, stored);
+            return stored;
+        });
+        return stored;
+    }
+
+    /**
+     * Replaces an existing pet.
+     *
+     * @param pet pet with the id of an existing pet
+     * @return the stored pet or empty if no pet with this id exists
+     */
+    public Optional<Pet> update(Pet pet) {
+        Pet stored = copyOf(pet);
+        long id = stored.getId();
+        return Optional.ofNullable(pets.computeIfPresent(id, previous -> {
+            indexed(id, previous, stored);
+            return stored;
+        }));
+    }
+
+    /**
+     * Atomically applies the modification to a copy of an existing pet and stores the result.
+     *
+     * @param id pet id
+     * @param modification modification applied to the copy
+     * @return the stored pet or empty if the id is unknown
+     */
+    public Optional<Pet> update(long id, UnaryOperator<Pet> modification) {
+        return Optional.ofNullable(pets.computeIfPresent(id, previous -> {
+            Pet stored = modification.apply(copyOf(previous));
+            indexed(id, previous, stored);
+            return stored;
+        }));
+    }
+
+    /**
+     * @param id pet id
+     * @return the removed pet or empty if the id is unknown
+     */
+    public Optional<Pet> deleteById(long id) {
+        Pet[] removed = new Pet[1];
+        pets.computeIfPresent(id, previous -> {
+            indexed(id, previous, null);
+            removed[0] = previous;
+            return null;
+        });
+        return Optional.ofNullable(removed[0]);
+    }
+
+    /**
+     * Find all pets with the given status.
+     *
+     * @param status pet status
+     * @return pets ordered by id
+     */
+    public List<Pet> findByStatus(StatusEnum status) {
+        return toList(iterateByStatus(EnumSet.of(status), Long.MIN_VALUE));
+    }
+
+    /**
+     * Lazily iterates the pets with any of the given statuses, pets are looked up while iterating.
+     *
+     * @param statuses pet statuses
+     * @param fromId smallest pet id to return
+     * @return iterator over the pets ordered by id, starting at fromId
+     */
+    public Iterator<Pet> iterateByStatus(Collection<StatusEnum> statuses, long fromId) {
+        List<PrimitiveIterator.OfLong> ids = new ArrayList<>();
+        for (StatusEnum status : EnumSet.copyOf(statuses)) {
+            ids.add(index.idsByStatus(status, fromId));
+        }
+        return new PetIterator(ids.size() == 1 ? ids.get(0) : merge(ids), pet -> statuses.contains(pet.getStatus()));
+    }
+
+    /**
+     * Find all pets which have every one of the given tags.
+     *
+     * @param tags tag names
+     * @return pets ordered by id
+     */
+    public List<Pet> findByTags(Collection<String> tags) {
+        return toList(iterateByTags(tags, Long.MIN_VALUE));
+    }
+
+    /**
+     * Lazily iterates the pets which have every one of the given tags.
+     *
+     * @param tags tag names
+     * @param fromId smallest pet id to return
+     * @return iterator over the pets ordered by id, starting at fromId
+     */
+    public Iterator<Pet> iterateByTags(Collection<String> tags, long fromId) {
+        return new PetIterator(index.idsByTags(tags, fromId), pet -> PetIndex.tagNames(pet).containsAll(tags));
+    }
+
+    public int count() {
+        return pets.size();
+    }
+
+    /**
+     * @param status pet status
+     * @return number of pets with the status, read from counters without visiting the pets
+     */
+    public long countByStatus(StatusEnum status) {
+        return statusCounts.sum(status);
+    }
+
+    /**
+     * Registers a listener which is called on the writing thread after the pet counts per status changed.
+     * It runs inside the write, so it must be cheap, e.g. only mark a cache as stale.
+     *
+     * @param listener change listener
+     */
+    public void onStatusCountChange(Runnable listener) {
+        statusCounts.addListener(listener);
+    }
+
+    /**
+     * Updates indexes and counters, called while holding the lock of the pet id.
+     */
+    private void indexed(long id, Pet previous, Pet current) {
+        index.update(id, previous, current);
+        statusCounts.move(
+            previous == null ? null : previous.getStatus(), 1,
+            current == null ? null : current.getStatus(), 1);
+    }
+
+    private long nextId() {
+        long id;
+        do {
+            id = idSequence.incrementAndGet();
+        } while (pets.containsKey(id));
+        return id;
+    }
+
+    /**
+     * Merges ascending id iterators into one ascending iterator. A pet whose status changes during
+     * the iteration can show up in two of them, such duplicates are returned once.
+     */
+    private static PrimitiveIterator.OfLong merge(List<PrimitiveIterator.OfLong> sources) {
+        return new PrimitiveIterator.OfLong() {
+
+            private final long[] heads = new long[sources.size()];
+            private final boolean[] present = new boolean[sources.size()];
+            private boolean started;
+            private long last;
+
+            {
+                for (int i = 0; i < heads.length; i++) {
+                    pull(i);
+                }
+            }
+
+            private void pull(int source) {
+                PrimitiveIterator.OfLong ids = sources.get(source);
+                present[source] = false;
+                while (ids.hasNext()) {
+                    long id = ids.nextLong();
+                    if (!started || id > last) {
+                        heads[source] = id;
+                        present[source] = true;
+                        return;
+                    }
+                }
+            }
+
+            private int smallest() {
+                int smallest = -1;
+                for (int i = 0; i < heads.length; i++) {
+                    if (present[i] && (smallest < 0 || heads[i] < heads[smallest])) {
+                        smallest = i;
+                    }
+                }
+                return smallest;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return smallest() >= 0;
+            }
+
+            @Override
+            public long nextLong() {
+                int source = smallest();
+                if (source < 0) {
+                    throw new NoSuchElementException();
+                }
+                last = heads[source];
+                started = true;
+                for (int i = 0; i < heads.length; i++) {
+                    if (present[i] && heads[i] == last) {
+                        pull(i);
+                    }
+                }
+                return last;
+            }
+        };
+    }
+
+    private static List<Pet> toList(Iterator<Pet> pets) {
+        List<Pet> result = new ArrayList<>();
+        pets.forEachRemaining(result::add);
+        return result;
+    }
+
+    /**
+     * Shallow copy of the pet and its lists, category and tags are treated as values.
+     */
+    static Pet copyOf(Pet pet) {
+        return new Pet()
+            .id(pet.getId())
+            .name(pet.getName())
+            .category(pet.getCategory())
+            .photoUrls(pet.getPhotoUrls() == null ? null : new ArrayList<>(pet.getPhotoUrls()))
+            .tags(pet.getTags() == null ? null : new ArrayList<>(pet.getTags()))
+            .status(pet.getStatus());
+    }
+
+    /**
+     * Resolves index hits to the stored pets. Skips ids whose pet has been removed or no longer
+     * matches the query since the index has been read.
+     */
+    private class PetIterator implements Iterator<Pet> {
+
+        private final PrimitiveIterator.OfLong ids;
+        private final Predicate<Pet> matches;
+        private Pet next;
+
+        PetIterator(PrimitiveIterator.OfLong ids, Predicate<Pet> matches) {
+            this.ids = ids;
+            this.matches = matches;
+            this.next = advance();
+        }
+
+        private Pet advance() {
+            while (ids.hasNext()) {
+                Pet pet = pets.get(ids.nextLong());
+                if (pet != null && matches.test(pet)) {
+                    return pet;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Pet next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Pet current = next;
+            next = advance();
+            return current;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.paloit.server.petstore.repository;
+
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Pet.StatusEnum;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * {@link PetIndex} keeping the pet ids in concurrent sorted sets, so pages can start at any id
+ * without walking the ids before it.
+ */
+class SortedSetPetIndex implements PetIndex {
+
+    private final Map<StatusEnum, NavigableSet<Long>> byStatus = new EnumMap<>(StatusEnum.class);
+    private final ConcurrentHashMap<String, Postings> byTag = new ConcurrentHashMap<>();
+
+    SortedSetPetIndex() {
+        for (StatusEnum status : StatusEnum.values()) {
+            byStatus.put(status, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    @Override
+    public void update(long id, Pet previous, Pet current) {
+        StatusEnum previousStatus = previous == null ? null : previous.getStatus();
+        StatusEnum currentStatus = current == null ? null : current.getStatus();
+        if (previousStatus != currentStatus) {
+            if (previousStatus != null) {
+                byStatus.get(previousStatus).remove(id);
+            }
+            if (currentStatus != null) {
+                byStatus.get(currentStatus).add(id);
+            }
+        }
+
+        Set<String> previousTags = PetIndex.tagNames(previous);
+        Set<String> currentTags = PetIndex.tagNames(current);
+        for (String tag : previousTags) {
+            if (!currentTags.contains(tag)) {
+                byTag.computeIfPresent(tag, (name, postings) -> postings.remove(id) ? postings : null);
+            }
+        }
+        for (String tag : currentTags) {
+            if (!previousTags.contains(tag)) {
+                byTag.compute(tag, (name, postings) -> {
+                    Postings result = postings == null ? new Postings() : postings;
+                    result.add(id);
+                    return result;
+                });
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong idsByStatus(StatusEnum status, long fromId) {
+        return filter(byStatus.get(status).tailSet(fromId).iterator(), List.of());
+    }
+
+    /**
+     * Iterates the smallest posting list from the given id on and checks every id against the
+     * other ones.
+     */
+    @Override
+    public PrimitiveIterator.OfLong idsByTags(Collection<String> tags, long fromId) {
+        List<Postings> postings = new ArrayList<>();
+        for (String tag : new HashSet<>(tags)) {
+            Postings ids = byTag.get(tag);
+            if (ids == null) {
+                return filter(Collections.emptyIterator(), List.of());
+            }
+            postings.add(ids);
+        }
+        if (postings.isEmpty()) {
+            return filter(Collections.emptyIterator(), List.of());
+        }
+        postings.sort(Comparator.comparingInt(Postings::size));
+        return filter(postings.get(0).ids.tailSet(fromId).iterator(), postings.subList(1, postings.size()));
+    }
+
+    private static PrimitiveIterator.OfLong filter(Iterator<Long> ids, List<Postings> containedIn) {
+        return new PrimitiveIterator.OfLong() {
+
+            private Long next = advance();
+
+            private Long advance() {
+                while (ids.hasNext()) {
+                    Long id = ids.next();
+                    if (containedInAll(id)) {
+                        return id;
+                    }
+                }
+                return null;
+            }
+
+            private boolean containedInAll(Long id) {
+                for (Postings postings : containedIn) {
+                    if (!postings.ids.contains(id)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public long nextLong() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                long current = next;
+                next = advance();
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Pet ids of one tag. The size of a skip list is counted by walking it, so it is tracked
+     * separately. Changes only happen inside a compute of the tag map, which serializes them per tag.
+     */
+    private static class Postings {
+
+        private final NavigableSet<Long> ids = new ConcurrentSkipListSet<>();
+        private volatile int size;
+
+        void add(long id) {
+            if (ids.add(id)) {
+                size++;
+            }
+        }
+
+        /**
+         * @return false if the postings are empty afterwards
+         */
+        boolean remove(long id) {
+            if (ids.remove(id)) {
+                size--;
+            }
+            return size > 0;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
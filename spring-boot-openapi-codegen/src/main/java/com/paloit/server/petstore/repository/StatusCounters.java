@@ -0,0 +1,54 @@
+package com.paloit.server.petstore.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One {@link LongAdder} per enum constant. Adders spread concurrent updates over striped cells,
+ * so writers of the same status do not contend on a single counter, and reading all statuses
+ * costs the number of constants instead of the number of counted items.
+ *
+ * @param <E> status enum
+ */
+class StatusCounters<E extends Enum<E>> {
+
+    private final LongAdder[] counters;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    StatusCounters(Class<E> statusType) {
+        counters = new LongAdder[statusType.getEnumConstants().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Moves the amount from the previous to the current status. Null statuses are not counted.
+     */
+    void move(E previous, long previousAmount, E current, long currentAmount) {
+        if (previous == current && previousAmount == currentAmount) {
+            return;
+        }
+        if (previous != null) {
+            counters[previous.ordinal()].add(-previousAmount);
+        }
+        if (current != null) {
+            counters[current.ordinal()].add(currentAmount);
+        }
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * @param listener called after every change of the counters, on the writing thread
+     */
+    void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    long sum(E status) {
+        return counters[status.ordinal()].sum();
+    }
+}
@@ -0,0 +1,146 @@
+package com.paloit.server.petstore.repository;
+
+import com.paloit.server.petstore.model.User;
+import com.paloit.server.petstore.security.PasswordHasher;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Repository;
+
+/**
+ * In-memory user store keyed by username.
+ *
+ * Like the other repositories it stores copies of the users, so returned users can be read
+ * without locking. Passwords are replaced by their hash before a user is stored, the password
+ * of a returned user is the hash.
+ */
+@Repository
+public class UserRepository {
+
+    private final ConcurrentHashMap<String, User> users = new ConcurrentHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong();
+    private final PasswordHasher passwordHasher;
+
+    /**
+     * @param passwordHasher hashes the passwords of stored users
+     */
+    public UserRepository(PasswordHasher passwordHasher) {
+        this.passwordHasher = passwordHasher;
+    }
+
+    /**
+     * @param username username
+     * @return the user or empty if the username is unknown
+     */
+    public Optional<User> findByUsername(String username) {
+        return Optional.ofNullable(users.get(username));
+    }
+
+    /**
+     * Stores a new user or replaces an existing one with the same username.
+     * A user without id gets the next free id assigned.
+     *
+     * @param user user with username
+     * @return the stored user
+     */
+    public User save(User user) {
+        User stored = withHashedPassword(user);
+        if (stored.getId() == null) {
+            stored.setId(idSequence.incrementAndGet());
+        }
+        users.put(stored.getUsername(), stored);
+        return stored;
+    }
+
+    /**
+     * Stores new users, users whose username is taken are skipped. Usernames which are taken or
+     * repeated within the batch are rejected before any password is hashed, the passwords of the
+     * other users are hashed in parallel. The ids of the batch are reserved with a single update
+     * of the id sequence.
+     *
+     * @param batch users with username
+     * @return for every user of the batch whether it has been created
+     */
+    public boolean[] createAll(List<User> batch) {
+        boolean[] created = new boolean[batch.size()];
+        Set<String> usernames = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>(batch.size());
+        List<String> passwords = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            User user = batch.get(i);
+            if (!users.containsKey(user.getUsername()) && usernames.add(user.getUsername())) {
+                candidates.add(i);
+                passwords.add(user.getPassword());
+            }
+        }
+        List<String> hashes = passwordHasher.hashAll(passwords);
+
+        long nextId = idSequence.getAndAdd(batch.size()) + 1;
+        for (int c = 0; c < candidates.size(); c++) {
+            int i = candidates.get(c);
+            User stored = copyOf(batch.get(i)).password(hashes.get(c));
+            if (stored.getId() == null) {
+                stored.setId(nextId + i);
+            }
+            // A concurrent save may have taken the username while hashing
+            created[i] = users.putIfAbsent(stored.getUsername(), stored) == null;
+        }
+        return created;
+    }
+
+    /**
+     * Replaces an existing user, the username and id are kept. Without a new password the
+     * password hash is kept as well.
+     *
+     * @param username username of the existing user
+     * @param user new user data
+     * @return the stored user or empty if the username is unknown
+     */
+    public Optional<User> update(String username, User user) {
+        // Hashed outside of the map lock, hashing is slow on purpose
+        User replacement = withHashedPassword(user);
+        return Optional.ofNullable(users.computeIfPresent(username, (name, previous) -> {
+            User stored = copyOf(replacement).id(previous.getId()).username(name);
+            if (stored.getPassword() == null) {
+                stored.setPassword(previous.getPassword());
+            }
+            return stored;
+        }));
+    }
+
+    /**
+     * @param username username
+     * @return the removed user or empty if the username is unknown
+     */
+    public Optional<User> deleteByUsername(String username) {
+        return Optional.ofNullable(users.remove(username));
+    }
+
+    public int count() {
+        return users.size();
+    }
+
+    private User withHashedPassword(User user) {
+        User copy = copyOf(user);
+        if (copy.getPassword() != null) {
+            copy.setPassword(passwordHasher.hash(copy.getPassword()));
+        }
+        return copy;
+    }
+
+    static User copyOf(User user) {
+        return new User()
+            .id(user.getId())
+            .username(user.getUsername())
+            .firstName(user.getFirstName())
+            .lastName(user.getLastName())
+            .email(user.getEmail())
+            .password(user.getPassword())
+            .phone(user.getPhone())
+            .userStatus(user.getUserStatus());
+    }
+}
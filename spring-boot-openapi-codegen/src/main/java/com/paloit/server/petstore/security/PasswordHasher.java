@@ -0,0 +1,137 @@
+package com.paloit.server.petstore.security;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Salted PBKDF2 password hashes.
+ *
+ * The work factor is the number of PBKDF2 iterations. It is stored in every hash, so it can be
+ * raised in the configuration without invalidating the existing hashes.
+ *
+ * Batches, like the users of a bulk import, are hashed in parallel on a pool of at most
+ * {@code petstore.security.hash-threads} threads. When its queue is full the calling thread
+ * hashes as well, so concurrent imports slow down instead of queueing without bound.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private static final int QUEUE_PER_THREAD = 64;
+
+    private final int iterations;
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param iterations PBKDF2 iterations of new hashes
+     * @param threads threads hashing batches in parallel, 0 for the number of cores
+     */
+    public PasswordHasher(
+        @Value("${petstore.security.password-iterations:120000}") int iterations,
+        @Value("${petstore.security.hash-threads:0}") int threads
+    ) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be positive: " + iterations);
+        }
+        if (threads < 0) {
+            throw new IllegalArgumentException("Hash threads must not be negative: " + threads);
+        }
+        this.iterations = iterations;
+        int poolSize = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(poolSize * QUEUE_PER_THREAD),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * @param password clear text password
+     * @return hash in the form {@code pbkdf2-sha256$iterations$salt$hash}
+     */
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + "$" + iterations + "$" + encoder.encodeToString(salt) + "$"
+            + encoder.encodeToString(pbkdf2(password, salt, iterations));
+    }
+
+    /**
+     * Hashes the passwords in parallel on the hash threads and waits for all of them.
+     *
+     * @param passwords clear text passwords, null entries stay null
+     * @return hashes in the order of the passwords
+     */
+    public List<String> hashAll(List<String> passwords) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(passwords.size());
+        for (String password : passwords) {
+            hashes.add(password == null
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(() -> hash(password), executor));
+        }
+        List<String> result = new ArrayList<>(hashes.size());
+        for (CompletableFuture<String> hash : hashes) {
+            result.add(hash.join());
+        }
+        return result;
+    }
+
+    /**
+     * Recomputes the hash with the salt and work factor of the encoded hash, which is slow on purpose.
+     *
+     * @param password clear text password
+     * @param encoded hash created by {@link #hash(String)}
+     * @return true if the password matches the hash
+     */
+    public boolean matches(String password, String encoded) {
+        String[] parts = encoded.split("\\$");
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            return false;
+        }
+        Base64.Decoder decoder = Base64.getDecoder();
+        byte[] expected = decoder.decode(parts[3]);
+        byte[] actual = pbkdf2(password, decoder.decode(parts[2]), Integer.parseInt(parts[1]));
+        // Constant time comparison, the time taken does not reveal how many bytes matched
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
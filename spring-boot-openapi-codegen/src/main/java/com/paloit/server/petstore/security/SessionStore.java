@@ -0,0 +1,160 @@
+package com.paloit.server.petstore.security;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory session tokens of logged in users.
+ *
+ * Every session expires a fixed time after the login. Expired sessions are rejected on lookup
+ * and removed by a background sweeper, which advances a {@link TimerWheel} so it only visits the
+ * sessions which are due instead of scanning the whole table.
+ */
+@Slf4j
+@Component
+public class SessionStore {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int WHEEL_SIZE = 512;
+
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final TimerWheel<String> expiries;
+    private final ScheduledExecutorService sweeper;
+    private final Duration ttl;
+    private final Clock clock;
+
+    /**
+     * @param ttl time from the login until the session expires
+     * @param sweepInterval time between two sweeps, also the resolution of the expiry
+     */
+    @Autowired
+    public SessionStore(
+        @Value("${petstore.security.session-ttl:30m}") Duration ttl,
+        @Value("${petstore.security.session-sweep-interval:1s}") Duration sweepInterval
+    ) {
+        this(ttl, sweepInterval, Clock.systemUTC());
+    }
+
+    SessionStore(Duration ttl, Duration sweepInterval, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.expiries = new TimerWheel<>(sweepInterval.toMillis(), WHEEL_SIZE, clock.millis());
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweepSafely, sweepInterval.toMillis(), sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts a new session.
+     *
+     * @param username logged in user
+     * @return the session with a new random token
+     */
+    public Session create(String username) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        var session = new Session(
+            Base64.getUrlEncoder().withoutPadding().encodeToString(bytes),
+            username,
+            clock.instant().plus(ttl));
+        sessions.put(session.getToken(), session);
+        expiries.schedule(session.getToken(), session.getExpiresAt().toEpochMilli());
+        return session;
+    }
+
+    /**
+     * @param token session token
+     * @return the session or empty if the token is unknown or the session has expired
+     */
+    public Optional<Session> find(String token) {
+        Session session = sessions.get(token);
+        if (session == null || session.isExpired(clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    /**
+     * Ends the session.
+     *
+     * @param token session token
+     * @return true if the session existed
+     */
+    public boolean remove(String token) {
+        return sessions.remove(token) != null;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Removes the expired sessions, run by the sweeper thread. Synchronized as the wheel must be
+     * advanced by one thread at a time.
+     */
+    synchronized void sweep() {
+        Instant now = clock.instant();
+        expiries.advance(now.toEpochMilli(),
+            token -> sessions.computeIfPresent(token, (key, session) -> session.isExpired(now) ? null : session));
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            // An exception would cancel the periodic sweep
+            log.error("Sweeping expired sessions failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    public static class Session {
+
+        private final String token;
+        private final String username;
+        private final Instant expiresAt;
+
+        Session(String token, String username, Instant expiresAt) {
+            this.token = token;
+            this.username = username;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
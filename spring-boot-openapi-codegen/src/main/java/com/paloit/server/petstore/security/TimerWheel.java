@@ -0,0 +1,96 @@
+package com.paloit.server.petstore.security;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel for expiry deadlines.
+ *
+ * Deadlines are sorted into buckets by their tick, a bucket holds the deadlines of every tick
+ * which maps to it. Advancing the wheel only visits the buckets of the elapsed ticks and within
+ * them only the keys which are due or one or more rotations away, so sweeping does not scan all
+ * scheduled keys. Scheduling is thread-safe, advancing must be done by a single thread.
+ *
+ * @param <K> key type
+ */
+class TimerWheel<K> {
+
+    private final long tickMillis;
+    private final Queue<Deadline<K>>[] buckets;
+    private final int mask;
+    private volatile long currentTick;
+
+    /**
+     * @param tickMillis resolution of the deadlines
+     * @param wheelSize number of buckets, rounded up to a power of two
+     * @param nowMillis current time
+     */
+    @SuppressWarnings("unchecked")
+    TimerWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond: " + tickMillis);
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.buckets = new Queue[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * @param key key which is handed to the expiry callback
+     * @param deadlineMillis time from which on the key is due
+     */
+    void schedule(K key, long deadlineMillis) {
+        // Round up, a key is never reported before its deadline
+        long tick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick);
+        buckets[(int) (tick & mask)].add(new Deadline<>(key, tick));
+    }
+
+    /**
+     * Reports all keys whose deadline has passed.
+     *
+     * @param nowMillis current time
+     * @param expired called for every due key, on the calling thread
+     */
+    void advance(long nowMillis, Consumer<K> expired) {
+        long targetTick = nowMillis / tickMillis;
+        long tick = currentTick;
+        if (targetTick < tick) {
+            return;
+        }
+        // Moved first, so keys scheduled meanwhile go to the target tick which the next call visits again
+        currentTick = targetTick;
+        // One rotation visits every bucket, further ticks would visit the same buckets again
+        long lastTick = Math.min(targetTick, tick + buckets.length - 1);
+        for (; tick <= lastTick; tick++) {
+            Iterator<Deadline<K>> deadlines = buckets[(int) (tick & mask)].iterator();
+            while (deadlines.hasNext()) {
+                Deadline<K> deadline = deadlines.next();
+                if (deadline.tick <= targetTick) {
+                    deadlines.remove();
+                    expired.accept(deadline.key);
+                }
+            }
+        }
+    }
+
+    private static class Deadline<K> {
+
+        private final K key;
+        private final long tick;
+
+        Deadline(K key, long tick) {
+            this.key = key;
+            this.tick = tick;
+        }
+    }
+}
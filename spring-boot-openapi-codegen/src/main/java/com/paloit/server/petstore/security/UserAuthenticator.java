@@ -0,0 +1,165 @@
+package com.paloit.server.petstore.security;
+
+import com.paloit.server.petstore.model.User;
+import com.paloit.server.petstore.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks usernames and passwords against the stored password hashes.
+ *
+ * Recomputing a hash is slow on purpose, so successful logins are remembered for a while. The cache
+ * keeps an HMAC of the username, the password and the stored hash under a key which only lives in
+ * this process, never the password itself. A changed password changes the stored hash, so old
+ * entries stop matching. Concurrent logins with the same credentials wait for one hash computation
+ * instead of computing it each.
+ */
+@Component
+public class UserAuthenticator {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final ConcurrentHashMap<String, VerifiedLogin> verified = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final ThreadLocal<Mac> macs;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Clock clock;
+
+    /**
+     * @param userRepository user store
+     * @param passwordHasher password hashes
+     * @param ttl time a verified login is accepted without recomputing the hash
+     * @param maxSize maximum number of remembered logins
+     */
+    @Autowired
+    public UserAuthenticator(
+        UserRepository userRepository,
+        PasswordHasher passwordHasher,
+        @Value("${petstore.security.login-cache-ttl:5m}") Duration ttl,
+        @Value("${petstore.security.login-cache-size:10000}") int maxSize
+    ) {
+        this(userRepository, passwordHasher, ttl, maxSize, Clock.systemUTC());
+    }
+
+    UserAuthenticator(UserRepository userRepository, PasswordHasher passwordHasher, Duration ttl, int maxSize, Clock clock) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+        this.clock = clock;
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(MAC_ALGORITHM);
+                mac.init(new SecretKeySpec(key, MAC_ALGORITHM));
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(MAC_ALGORITHM + " is not available", e);
+            }
+        });
+    }
+
+    /**
+     * @param username username
+     * @param password clear text password
+     * @return the user or empty if the username is unknown or the password does not match
+     */
+    public Optional<User> authenticate(String username, String password) {
+        if (username == null || password == null) {
+            return Optional.empty();
+        }
+        Optional<User> user = userRepository.findByUsername(username);
+        if (user.isEmpty() || user.get().getPassword() == null) {
+            return Optional.empty();
+        }
+        String storedHash = user.get().getPassword();
+        byte[] fingerprint = fingerprint(username, password, storedHash);
+        long now = clock.millis();
+
+        VerifiedLogin cached = verified.get(username);
+        if (cached != null && cached.expiresAt > now && MessageDigest.isEqual(cached.fingerprint, fingerprint)) {
+            return user;
+        }
+        return verify(username, password, storedHash, fingerprint, now) ? user : Optional.empty();
+    }
+
+    /**
+     * Forgets the verified login of the user, e.g. after the user has been deleted.
+     */
+    public void invalidate(String username) {
+        verified.remove(username);
+    }
+
+    private boolean verify(String username, String password, String storedHash, byte[] fingerprint, long now) {
+        String key = username + '\u0000' + Base64.getEncoder().encodeToString(fingerprint);
+        CompletableFuture<Boolean> verification = new CompletableFuture<>();
+        CompletableFuture<Boolean> running = inFlight.putIfAbsent(key, verification);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            boolean matches = passwordHasher.matches(password, storedHash);
+            if (matches) {
+                remember(username, new VerifiedLogin(fingerprint, now + ttlMillis), now);
+            }
+            verification.complete(matches);
+            return matches;
+        } catch (RuntimeException e) {
+            verification.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, verification);
+        }
+    }
+
+    private void remember(String username, VerifiedLogin login, long now) {
+        if (verified.size() >= maxSize && !verified.containsKey(username)) {
+            // Drop expired logins first, otherwise any one to stay within the bound
+            verified.values().removeIf(entry -> entry.expiresAt <= now);
+            Iterator<String> usernames = verified.keySet().iterator();
+            while (verified.size() >= maxSize && usernames.hasNext()) {
+                usernames.next();
+                usernames.remove();
+            }
+        }
+        verified.put(username, login);
+    }
+
+    private byte[] fingerprint(String username, String password, String storedHash) {
+        Mac mac = macs.get();
+        mac.update(username.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        mac.update(password.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return mac.doFinal(storedHash.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class VerifiedLogin {
+
+        private final byte[] fingerprint;
+        private final long expiresAt;
+
+        VerifiedLogin(byte[] fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.paloit.server.petstore.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms the application up before it reports ready, so the first requests after a deploy are not
+ * the ones paying for lazy initialisation.
+ *
+ * Application runners are called before Spring Boot publishes the {@code ACCEPTING_TRAFFIC}
+ * readiness state, so {@code /actuator/health/readiness} stays down until the warm-up is done.
+ * First the Jackson serializers and deserializers of the models are built through the shared
+ * object mapper, then every handler of the pet, store and user apis is called once through the
+ * local web server. The calls use unknown ids, invalid bodies and empty lists, so they do not
+ * change the stored data. Failures are logged and do not stop the application.
+ *
+ * The calls carry the {@link #WARM_UP_HEADER}, so the operation metrics leave them out. Spring
+ * Boot's {@code http.server.requests} metrics still count them.
+ *
+ * The time taken is logged and exported as {@code petstore.startup.warm-up}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "petstore.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmUp implements ApplicationRunner {
+
+    /** Header of the warm-up requests, see OperationMetricsInterceptor. */
+    public static final String WARM_UP_HEADER = "X-Petstore-Warm-Up";
+    /** Pet and order id which is never stored. */
+    static final long UNKNOWN_ID = Long.MAX_VALUE;
+    /** Username which is never stored. */
+    static final String UNKNOWN_USERNAME = "__warm-up__";
+
+    private static final List<Class<?>> MODELS = List.of(
+        com.paloit.server.petstore.model.Pet.class,
+        com.paloit.server.petstore.model.Order.class,
+        com.paloit.server.petstore.model.User.class,
+        com.paloit.server.petstore.model.Category.class,
+        com.paloit.server.petstore.model.Tag.class,
+        com.paloit.server.petstore.model.Address.class,
+        com.paloit.client.petstore.webclient.model.Pet.class,
+        com.paloit.client.petstore.webclient.model.Order.class,
+        com.paloit.client.petstore.webclient.model.User.class,
+        com.paloit.client.petstore.webclient.model.Category.class,
+        com.paloit.client.petstore.webclient.model.Tag.class,
+        com.paloit.client.petstore.webclient.model.Address.class
+    );
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationContext applicationContext;
+    private final MeterRegistry meterRegistry;
+    private final String basePath;
+    private final Duration requestTimeout;
+
+    /**
+     * @param objectMapper objectmapper defined in JacksonConfig
+     * @param applicationContext context of the local web server, if any
+     * @param meterRegistry registry of the warm-up timer
+     * @param basePath base path of the petstore apis
+     * @param requestTimeout timeout of each warm-up request
+     */
+    public StartupWarmUp(
+        ObjectMapper objectMapper,
+        ApplicationContext applicationContext,
+        MeterRegistry meterRegistry,
+        @Value("${openapi.swaggerPetstoreOpenAPI30.base-path:/api/v3}") String basePath,
+        @Value("${petstore.warm-up.request-timeout:5s}") Duration requestTimeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.applicationContext = applicationContext;
+        this.meterRegistry = meterRegistry;
+        this.basePath = basePath;
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        int models = warmUpModels();
+        int handlers = warmUpHandlers();
+        long elapsed = System.nanoTime() - start;
+
+        Timer.builder("petstore.startup.warm-up")
+            .description("Time spent warming up serializers and handlers before reporting ready")
+            .register(meterRegistry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Warm-up of {} models and {} handlers took {} ms", models, handlers, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * Writes and reads an empty instance of every model, which builds and caches their serializers
+     * and deserializers in the object mapper.
+     *
+     * @return models warmed up
+     */
+    int warmUpModels() {
+        int warmedUp = 0;
+        for (Class<?> model : MODELS) {
+            try {
+                byte[] json = objectMapper.writerFor(model).writeValueAsBytes(model.getDeclaredConstructor().newInstance());
+                objectMapper.readerFor(model).readValue(json);
+                objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, model));
+                warmedUp++;
+            } catch (ReflectiveOperationException | IOException e) {
+                log.warn("Warm-up of {} failed", model.getName(), e);
+            }
+        }
+        return warmedUp;
+    }
+
+    /**
+     * Calls every handler once through the local web server. Skipped without a web server.
+     *
+     * @return handlers which answered without server error
+     */
+    int warmUpHandlers() {
+        if (!(applicationContext instanceof WebServerApplicationContext)) {
+            return 0;
+        }
+        int port = ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+        if (port <= 0) {
+            return 0;
+        }
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(requestTimeout)
+            .build();
+        String root = "http://localhost:" + port + basePath;
+
+        int answered = 0;
+        for (HttpRequest request : requests(root)) {
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                log.trace("Warm-up {} {}: {}", request.method(), request.uri(), response.statusCode());
+                if (response.statusCode() >= 500) {
+                    log.warn("Warm-up {} {} failed with status {}", request.method(), request.uri(), response.statusCode());
+                } else {
+                    answered++;
+                }
+            } catch (IOException e) {
+                log.warn("Warm-up {} {} failed", request.method(), request.uri(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return answered;
+    }
+
+    /**
+     * One request per handler, none of which changes the stored data.
+     */
+    private List<HttpRequest> requests(String root) {
+        String pet = "{\"id\":" + UNKNOWN_ID + ",\"name\":\"warm-up\",\"photoUrls\":[]}";
+        String user = "{\"username\":\"" + UNKNOWN_USERNAME + "\"}";
+        return List.of(
+            // Pet api: unknown ids and an invalid pet
+            request(root + "/pet/" + UNKNOWN_ID, "GET", null),
+            request(root + "/pet", "POST", "{\"photoUrls\":[]}"),
+            request(root + "/pet", "PUT", pet),
+            request(root + "/pet/" + UNKNOWN_ID + "?name=warm-up", "POST", null),
+            request(root + "/pet/" + UNKNOWN_ID, "DELETE", null),
+            request(root + "/pet/findByStatus?status=available&limit=1", "GET", null),
+            request(root + "/pet/findByTags?tags=warm-up&limit=1", "GET", null),
+            // Store api: unknown ids and an order for an unknown pet
+            request(root + "/store/inventory", "GET", null),
+            request(root + "/store/order/" + UNKNOWN_ID, "GET", null),
+            request(root + "/store/order", "POST", "{\"petId\":" + UNKNOWN_ID + ",\"quantity\":1}"),
+            request(root + "/store/order/" + UNKNOWN_ID, "DELETE", null),
+            // User api: unknown username, an invalid user and empty lists
+            request(root + "/user", "POST", "{}"),
+            request(root + "/user/createWithList", "POST", "[]"),
+            request(root + "/user/import", "POST", "[]"),
+            request(root + "/user/" + UNKNOWN_USERNAME, "GET", null),
+            request(root + "/user/" + UNKNOWN_USERNAME, "PUT", user),
+            request(root + "/user/" + UNKNOWN_USERNAME, "DELETE", null),
+            request(root + "/user/login?username=" + UNKNOWN_USERNAME + "&password=warm-up", "GET", null),
+            request(root + "/user/logout", "GET", null)
+        );
+    }
+
+    private HttpRequest request(String uri, String method, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri))
+            .timeout(requestTimeout)
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            // Like the clients, so the compression of large responses is warmed up as well
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .header(WARM_UP_HEADER, "true");
+        if (json != null) {
+            builder.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method(method, HttpRequest.BodyPublishers.ofString(json));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.paloit.client.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+public class ResponseCacheFilterTest {
+
+    private final ResponseCacheFilter cache = new ResponseCacheFilter(DataSize.ofMegabytes(1), Duration.ofMinutes(1), Duration.ZERO);
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    @Test
+    public void filter_FreshResponse_ServedFromCache() {
+        var webClient = webClient(request -> ok("{\"id\":1}").header(HttpHeaders.CACHE_CONTROL, "max-age=60").build());
+
+        assertThat(get(webClient, "/pet/1")).isEqualTo("{\"id\":1}");
+        assertThat(get(webClient, "/pet/1")).isEqualTo("{\"id\":1}");
+
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    public void filter_StaleResponseWithETag_Revalidated() {
+        var webClient = webClient(request -> "\"v1\"".equals(request.headers().getFirst(HttpHeaders.IF_NONE_MATCH))
+            ? ClientResponse.create(HttpStatus.NOT_MODIFIED).build()
+            : ok("{\"id\":2}").header(HttpHeaders.CACHE_CONTROL, "no-cache").header(HttpHeaders.ETAG, "\"v1\"").build());
+
+        assertThat(get(webClient, "/pet/2")).isEqualTo("{\"id\":2}");
+        assertThat(get(webClient, "/pet/2")).isEqualTo("{\"id\":2}");
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH)).isNull();
+        assertThat(requests.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH)).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    public void filter_NoStoreOrNoValidators_NotCached() {
+        var webClient = webClient(request -> request.url().getPath().endsWith("/3")
+            ? ok("{\"id\":3}").header(HttpHeaders.CACHE_CONTROL, "no-store").header(HttpHeaders.ETAG, "\"v1\"").build()
+            : ok("{\"id\":4}").build());
+
+        get(webClient, "/pet/3");
+        get(webClient, "/pet/3");
+        get(webClient, "/pet/4");
+        get(webClient, "/pet/4");
+
+        assertThat(requests).hasSize(4);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void filter_DifferentAccept_CachedSeparately() {
+        var webClient = webClient(request -> ok(request.headers().getFirst(HttpHeaders.ACCEPT))
+            .header(HttpHeaders.CACHE_CONTROL, "max-age=60").build());
+
+        assertThat(webClient.get().uri("http://localhost/pet/5").accept(MediaType.APPLICATION_JSON)
+            .retrieve().bodyToMono(String.class).block()).isEqualTo("application/json");
+        assertThat(webClient.get().uri("http://localhost/pet/5").accept(MediaType.APPLICATION_XML)
+            .retrieve().bodyToMono(String.class).block()).isEqualTo("application/xml");
+
+        assertThat(requests).hasSize(2);
+    }
+
+    private WebClient webClient(Function<ClientRequest, ClientResponse> server) {
+        return WebClient.builder()
+            .filter(cache)
+            .exchangeFunction(request -> {
+                requests.add(request);
+                return Mono.just(server.apply(request));
+            })
+            .build();
+    }
+
+    private static String get(WebClient webClient, String path) {
+        return webClient.get().uri("http://localhost" + path).retrieve().bodyToMono(String.class).block();
+    }
+
+    private static ClientResponse.Builder ok(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+            .body(body);
+    }
+}
@@ -0,0 +1,129 @@
+package com.paloit.client.petstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.paloit.client.petstore.webclient.api.PetApi;
+import com.paloit.client.petstore.webclient.model.Pet;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class CoalescingPetClientTest {
+
+    private final StubPetApi petApi = new StubPetApi();
+    private CoalescingPetClient client;
+
+    @AfterEach
+    public void tearDown() {
+        client.dispose();
+    }
+
+    @Test
+    public void getPetById_ConcurrentRequestsForSameId_OneCall() {
+        client = new CoalescingPetClient(petApi, Duration.ofMillis(2), 100, 8);
+
+        List<Pet> pets = Flux.range(0, 10)
+            .flatMap(i -> client.getPetById(7l))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(pets).hasSize(10).allMatch(pet -> pet.getId() == 7l);
+        assertThat(petApi.calls.get()).isEqualTo(1);
+        assertThat(client.coalescedRatio()).isEqualTo(0.9);
+    }
+
+    @Test
+    public void getPetById_DistinctIds_BoundedConcurrency() {
+        client = new CoalescingPetClient(petApi, Duration.ofMillis(2), 10, 4);
+
+        List<Long> ids = Flux.fromStream(LongStream.rangeClosed(1, 40).boxed())
+            .flatMap(id -> client.getPetById(id))
+            .map(Pet::getId)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(
+            LongStream.rangeClosed(1, 40).boxed().collect(Collectors.toList()));
+        assertThat(petApi.calls.get()).isEqualTo(40);
+        assertThat(petApi.maxRunning.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void getPetById_AllCallsBusy_BatchesWaitInsteadOfFailing() {
+        // Batches are emitted every millisecond while one call at a time takes 20 ms
+        client = new CoalescingPetClient(petApi, Duration.ofMillis(1), 2, 1);
+
+        List<Long> ids = Flux.fromStream(LongStream.rangeClosed(1, 30).boxed())
+            .flatMap(id -> client.getPetById(id))
+            .map(Pet::getId)
+            .collectList()
+            .block(Duration.ofSeconds(10));
+
+        assertThat(ids).hasSize(30);
+        assertThat(petApi.calls.get()).isEqualTo(30);
+        assertThat(petApi.maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getPetById_Disposed_FailsInsteadOfHanging() {
+        client = new CoalescingPetClient(petApi, Duration.ofMillis(2), 100, 8);
+        client.dispose();
+
+        assertThatThrownBy(() -> client.getPetById(5l).block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> client.getPetById(5l).block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(petApi.calls.get()).isZero();
+    }
+
+    @Test
+    public void getPetById_CallFailed_ErrorForAllSubscribersAndNextRequestCallsAgain() {
+        client = new CoalescingPetClient(petApi, Duration.ZERO, 100, 8);
+        petApi.failing = true;
+
+        Mono<List<Pet>> requests = Flux.range(0, 3)
+            .flatMap(i -> client.getPetById(404l))
+            .collectList();
+        assertThatThrownBy(() -> requests.block(Duration.ofSeconds(5)))
+            .isInstanceOf(WebClientResponseException.class);
+        assertThat(petApi.calls.get()).isEqualTo(1);
+
+        petApi.failing = false;
+        assertThat(client.getPetById(404l).block(Duration.ofSeconds(5)).getId()).isEqualTo(404l);
+        assertThat(petApi.calls.get()).isEqualTo(2);
+    }
+
+    private static class StubPetApi extends PetApi {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private volatile boolean failing;
+
+        @Override
+        public Mono<Pet> getPetById(Long petId) {
+            Mono<Pet> response = failing
+                ? Mono.error(WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null))
+                : Mono.fromSupplier(() -> new Pet().id(petId).name("Pet " + petId));
+            // A call runs from its subscription until before its result is signalled, after which
+            // flatMap may already subscribe to the next call
+            return Mono.delay(Duration.ofMillis(20))
+                .then(response)
+                .doOnSubscribe(subscription -> {
+                    calls.incrementAndGet();
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                })
+                .doOnTerminate(running::decrementAndGet)
+                .doOnCancel(running::decrementAndGet);
+        }
+    }
+}
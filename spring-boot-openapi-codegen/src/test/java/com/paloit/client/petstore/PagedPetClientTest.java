@@ -0,0 +1,61 @@
+package com.paloit.client.petstore;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.paloit.client.petstore.webclient.api.PetApi;
+import com.paloit.client.petstore.webclient.apiclient.ApiClient;
+import com.paloit.client.petstore.webclient.model.Pet;
+import com.paloit.util.BaseTest;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Pages through the local server with the generated client.
+ */
+public class PagedPetClientTest extends BaseTest {
+
+    private static final String TAG = "paged-client";
+
+    @LocalServerPort
+    private int port;
+
+    private PetApi petApi;
+
+    @BeforeAll
+    public void createPets() {
+        petApi = new PetApi(new ApiClient().setBasePath("http://localhost:" + port + PATH_PREFIX));
+        for (long petId = 9_200_001L; petId <= 9_200_005L; petId++) {
+            given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body("{ \"id\": " + petId + ", \"name\": \"Paged\", \"photoUrls\": [], \"tags\": [{ \"name\": \"" + TAG + "\" }], \"status\": \"available\" }")
+                .when()
+                .post("http://localhost:" + port + PATH_PREFIX + "/pet")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+        }
+    }
+
+    @Test
+    public void findPetsByTags_Limit_FirstPageWithNextCursor() {
+        ResponseEntity<List<Pet>> page = petApi.findPetsByTagsWithHttpInfo(List.of(TAG), 2, null).block();
+
+        assertThat(page.getBody()).extracting(Pet::getId).containsExactly(9_200_001L, 9_200_002L);
+        assertThat(page.getHeaders().getFirst(PagedPetClient.NEXT_CURSOR_HEADER)).isNotBlank();
+    }
+
+    @Test
+    public void findPetsByTags_PageSmallerThanResult_AllPetsInIdOrder() {
+        List<Long> ids = new PagedPetClient(petApi).findPetsByTags(List.of(TAG), 2)
+            .map(Pet::getId)
+            .collectList()
+            .block();
+
+        assertThat(ids).containsExactly(9_200_001L, 9_200_002L, 9_200_003L, 9_200_004L, 9_200_005L);
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.paloit.client.petstore.webclient.api.PetApi;
 import com.paloit.client.petstore.webclient.model.Pet;
 import com.paloit.client.petstore.webclient.model.Pet.StatusEnum;
@@ -20,10 +21,20 @@ import reactor.core.publisher.Mono;
 public class PetApiClientTest {
 
     private PetApi petApiClient;
+    private ObjectMapper objectMapper;
 
     @Autowired
-    public PetApiClientTest(PetApi petApiClient) {
+    public PetApiClientTest(PetApi petApiClient, ObjectMapper objectMapper) {
         this.petApiClient = petApiClient;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * The client uses the object mapper of the server instead of creating its own.
+     */
+    @Test
+    public void apiClient_SharesServerObjectMapper() {
+        assertThat(petApiClient.getApiClient().getObjectMapper()).isSameAs(objectMapper);
     }
 
     /**
@@ -0,0 +1,95 @@
+package com.paloit.client.petstore.webclient.apiclient;
+
+import com.paloit.client.petstore.webclient.api.PetApi;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClient.ResponseSpec;
+import reactor.core.publisher.Mono;
+
+/**
+ * Measures the helpers of {@link ApiClient} which run for every request: converting parameters,
+ * expanding the URI and preparing a request with query parameters, without sending it.
+ * Not part of the test suite, run the main method or the benchmark profile and compare the
+ * {@code gc.alloc.rate.norm} (bytes per call) rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiClientBenchmark {
+
+    private static final String BASE_PATH = "http://localhost:8080/api/v3";
+    private static final List<String> TAGS = List.of("dog", "small", "vaccinated");
+
+    private ApiClient apiClient;
+    private PetApi petApi;
+    private CompiledUriTemplate template;
+    private MultiValueMap<String, String> queryParams;
+    private long petId;
+
+    @Setup
+    public void setUp() {
+        // The exchange function is never called, the response spec is not subscribed to
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> Mono.empty())
+            .build();
+        apiClient = new ApiClient(webClient).setBasePath(BASE_PATH);
+        apiClient.setApiKey("special-key");
+        petApi = new PetApi(apiClient);
+        template = CompiledUriTemplate.compile(BASE_PATH, "/pet/{petId}");
+        queryParams = new LinkedMultiValueMap<>();
+        queryParams.addAll(apiClient.parameterToMultiValueMap(ApiClient.CollectionFormat.MULTI, "tags", TAGS));
+        queryParams.addAll(apiClient.parameterToMultiValueMap(null, "limit", 20));
+    }
+
+    @Benchmark
+    public MultiValueMap<String, String> parameterToMultiValueMapCsv() {
+        return apiClient.parameterToMultiValueMap(ApiClient.CollectionFormat.CSV, "tags", TAGS);
+    }
+
+    @Benchmark
+    public MultiValueMap<String, String> parameterToMultiValueMapMulti() {
+        return apiClient.parameterToMultiValueMap(ApiClient.CollectionFormat.MULTI, "tags", TAGS);
+    }
+
+    @Benchmark
+    public String expandUri() {
+        StringBuilder uri = new StringBuilder(64);
+        template.expand(uri, Map.of("petId", ++petId));
+        CompiledUriTemplate.appendQuery(uri, queryParams);
+        return uri.toString();
+    }
+
+    @Benchmark
+    public ResponseSpec prepareRequestWithQuery() {
+        return petApi.findPetsByTagsRequestCreation(TAGS, 20, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ApiClientBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
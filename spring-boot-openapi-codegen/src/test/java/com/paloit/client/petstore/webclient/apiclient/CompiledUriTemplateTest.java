@@ -0,0 +1,63 @@
+package com.paloit.client.petstore.webclient.apiclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+public class CompiledUriTemplateTest {
+
+    private static final String BASE_PATH = "http://localhost:8080/api/v3";
+
+    @Test
+    public void expand_PathVariable_SameAsWebClientExpansion() {
+        var template = CompiledUriTemplate.compile(BASE_PATH, "/pet/{petId}/uploadImage");
+
+        for (String petId : List.of("42", "a b", "a/b?c=d&e", "chien+été", "🐶")) {
+            var uri = new StringBuilder();
+            template.expand(uri, Map.of("petId", petId));
+
+            assertThat(uri.toString()).isEqualTo(new DefaultUriBuilderFactory()
+                .expand(BASE_PATH + "/pet/{petId}/uploadImage", Map.of("petId", petId)).toString());
+        }
+    }
+
+    @Test
+    public void appendQuery_MultipleValues_SameAsWebClientExpansion() {
+        var queryParams = new LinkedMultiValueMap<String, String>();
+        queryParams.add("tags", "dog");
+        queryParams.add("tags", "small,young");
+        queryParams.add("cursor", "AAAAAAAAAAE=");
+        queryParams.put("flag", List.of());
+
+        var uri = new StringBuilder();
+        CompiledUriTemplate.compile(BASE_PATH, "/pet/findByTags").expand(uri, Map.of());
+        CompiledUriTemplate.appendQuery(uri, queryParams);
+
+        assertThat(uri.toString()).isEqualTo(new DefaultUriBuilderFactory()
+            .expand(BASE_PATH + "/pet/findByTags?tags={t0}&tags={t1}&cursor={c0}&flag",
+                Map.of("t0", "dog", "t1", "small,young", "c0", "AAAAAAAAAAE="))
+            .toString());
+    }
+
+    @Test
+    public void compile_BasePathWithTrailingSlash_SingleSlash() {
+        var uri = new StringBuilder();
+        CompiledUriTemplate.compile(BASE_PATH + "/", "/store/inventory").expand(uri, Map.of());
+
+        assertThat(uri.toString()).isEqualTo(BASE_PATH + "/store/inventory");
+    }
+
+    @Test
+    public void expand_MissingVariable_Throw() {
+        var template = CompiledUriTemplate.compile(BASE_PATH, "/store/order/{orderId}");
+
+        assertThatThrownBy(() -> template.expand(new StringBuilder(), Map.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("orderId");
+    }
+}
@@ -0,0 +1,99 @@
+package com.paloit.client.petstore.webclient.apiclient;
+
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures formatting and parsing of date parameters from several threads.
+ *
+ * The {@code legacy} benchmarks use the Jackson {@code StdDateFormat} and
+ * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} the client used before {@link RFC3339Dates}. The
+ * shared {@code StdDateFormat} was not thread-safe, so here each thread has its own, which is the
+ * best case for it. Not part of the test suite, run the main method and compare the
+ * {@code gc.alloc.rate.norm} (bytes per call) rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class DateFormattingBenchmark {
+
+    private DateFormat legacyDateFormat;
+    private DateFormat dateFormat;
+    private Date date;
+    private OffsetDateTime dateTime;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        legacyDateFormat = new StdDateFormat().withTimeZone(TimeZone.getTimeZone("UTC")).withColonInTimeZone(true);
+        dateFormat = ApiClient.createDefaultDateFormat();
+        date = new Date(Instant.parse("2022-01-19T08:22:07.236Z").toEpochMilli());
+        dateTime = OffsetDateTime.of(2022, 1, 19, 15, 22, 7, 236_567_000, ZoneOffset.ofHours(7));
+        text = "2022-01-19T08:22:07.236+00:00";
+    }
+
+    @Benchmark
+    public String legacyFormatDate() {
+        return legacyDateFormat.format(date);
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return RFC3339Dates.formatEpochMillis(date.getTime());
+    }
+
+    @Benchmark
+    public String legacyFormatOffsetDateTime() {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+    }
+
+    @Benchmark
+    public String formatOffsetDateTime() {
+        return RFC3339Dates.format(dateTime);
+    }
+
+    @Benchmark
+    public Date legacyParseDate() {
+        return legacyDateFormat.parse(text, new ParsePosition(0));
+    }
+
+    @Benchmark
+    public Date parseDate() {
+        return dateFormat.parse(text, new ParsePosition(0));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(DateFormattingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
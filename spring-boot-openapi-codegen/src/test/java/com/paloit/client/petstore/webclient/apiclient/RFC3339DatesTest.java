@@ -0,0 +1,104 @@
+package com.paloit.client.petstore.webclient.apiclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class RFC3339DatesTest {
+
+    private static final long MAX_EPOCH_MILLIS = Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli();
+
+    @Test
+    public void formatEpochMillis_RandomDates_SameAsStdDateFormat() {
+        var stdDateFormat = new StdDateFormat().withTimeZone(TimeZone.getTimeZone("UTC")).withColonInTimeZone(true);
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long epochMillis = (long) (random.nextDouble() * MAX_EPOCH_MILLIS) - (i % 4 == 0 ? MAX_EPOCH_MILLIS / 5 : 0);
+
+            assertThat(RFC3339Dates.formatEpochMillis(epochMillis)).isEqualTo(stdDateFormat.format(new Date(epochMillis)));
+        }
+    }
+
+    @Test
+    public void format_RandomOffsetDateTimes_SameAsIsoOffsetDateTime() {
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long epochMillis = (long) (random.nextDouble() * MAX_EPOCH_MILLIS);
+            int nanos = i % 3 == 0 ? 0 : random.nextInt(1_000_000);
+            ZoneOffset offset = i % 3 == 1 ? ZoneOffset.UTC : ZoneOffset.ofTotalSeconds((random.nextInt(73) - 36) * 15 * 60);
+            var dateTime = Instant.ofEpochMilli(epochMillis).plusNanos(nanos).atOffset(offset);
+
+            assertThat(RFC3339Dates.format(dateTime)).isEqualTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime));
+        }
+    }
+
+    @Test
+    public void parseEpochMillis_SupportedForms_SameAsStdDateFormat() throws Exception {
+        var stdDateFormat = new StdDateFormat().withTimeZone(TimeZone.getTimeZone("UTC"));
+
+        for (String text : List.of("2022-01-19", "2022-01-19T08:22:07", "2022-01-19T08:22:07.236Z",
+            "2022-01-19T08:22:07.236+07:00", "2022-01-19T08:22:07+0700", "1642580527236", "1500-03-01T00:00:00Z")) {
+
+            assertThat(RFC3339Dates.parseEpochMillis(text, new ParsePosition(0)))
+                .as(text)
+                .isEqualTo(stdDateFormat.parse(text).getTime());
+        }
+    }
+
+    @Test
+    public void parseEpochMillis_Invalid_ErrorIndex() {
+        var position = new ParsePosition(0);
+
+        assertThat(RFC3339Dates.parseEpochMillis("2022-13-01", position)).isNull();
+        assertThat(position.getErrorIndex()).isZero();
+    }
+
+    @Test
+    public void formatDate_SharedApiClient_NoCorruptionUnderConcurrency() throws Exception {
+        var apiClient = new ApiClient();
+        var dateFormat = apiClient.getDateFormat();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<Boolean>>();
+            for (int thread = 0; thread < 8; thread++) {
+                long seed = thread;
+                tasks.add(() -> {
+                    var random = new Random(seed);
+                    for (int i = 0; i < 10_000; i++) {
+                        long epochMillis = (long) (random.nextDouble() * MAX_EPOCH_MILLIS);
+                        var dateTime = OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.ofHours(7));
+                        String date = apiClient.parameterToString(new Date(epochMillis));
+                        if (dateFormat.parse(date).getTime() != epochMillis
+                            || !apiClient.parameterToString(dateTime).equals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.paloit.client.petstore.webclient.apiclient;
+
+import com.paloit.client.petstore.webclient.api.PetApi;
+import com.paloit.client.petstore.webclient.model.Pet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClient.ResponseSpec;
+import reactor.core.publisher.Mono;
+
+/**
+ * Measures the time and the allocation of building a {@code getPetById} request, without sending it.
+ *
+ * {@code legacy} builds the request the way the generated APIs did before they kept an
+ * {@link ApiOperation} per operation, {@code operation} calls the generated API. Not part of the
+ * test suite, run the main method and compare the {@code gc.alloc.rate.norm} (bytes per call) rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestCreationBenchmark {
+
+    private ApiClient apiClient;
+    private PetApi petApi;
+    private long petId;
+
+    @Setup
+    public void setUp() {
+        // The exchange function is never called, the response spec is not subscribed to
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> Mono.empty())
+            .build();
+        apiClient = new ApiClient(webClient).setBasePath("http://localhost:8080/api/v3");
+        apiClient.setApiKey("special-key");
+        petApi = new PetApi(apiClient);
+    }
+
+    @Benchmark
+    public ResponseSpec legacy() {
+        final Map<String, Object> pathParams = new HashMap<String, Object>();
+        pathParams.put("petId", ++petId);
+
+        final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
+        final HttpHeaders headerParams = new HttpHeaders();
+        final MultiValueMap<String, String> cookieParams = new LinkedMultiValueMap<String, String>();
+        final MultiValueMap<String, Object> formParams = new LinkedMultiValueMap<String, Object>();
+
+        final String[] localVarAccepts = {
+            "application/xml", "application/json"
+        };
+        final List<MediaType> localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
+        final String[] localVarContentTypes = { };
+        final MediaType localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+
+        String[] localVarAuthNames = new String[] { "api_key", "petstore_auth" };
+
+        ParameterizedTypeReference<Pet> localVarReturnType = new ParameterizedTypeReference<Pet>() {};
+        return apiClient.invokeAPI("/pet/{petId}", HttpMethod.GET, pathParams, queryParams, null, headerParams, cookieParams, formParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+    }
+
+    @Benchmark
+    public ResponseSpec operation() {
+        return petApi.getPetByIdRequestCreation(++petId);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RequestCreationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
@@ -0,0 +1,135 @@
+package com.paloit.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.paloit.server.petstore.model.Category;
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Tag;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures the time of writing and reading a {@code Pet} and a search result of 100 pets as JSON,
+ * CBOR and Smile with the mappers of {@link JacksonConfig}. The payload size of every format is
+ * reported as the {@code bytes} secondary result, so the rows can be compared by size and by
+ * encode and decode cost. Not part of the test suite, run the main method or the benchmark profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final int PETS = 100;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public String format;
+
+    @Param({"Pet", "List<Pet>"})
+    public String payload;
+
+    private Object value;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper mapper = mapper(format);
+        if ("Pet".equals(payload)) {
+            value = pet(10);
+            writer = mapper.writerFor(Pet.class);
+            reader = mapper.readerFor(Pet.class);
+        } else {
+            List<Pet> pets = new ArrayList<>(PETS);
+            for (int i = 0; i < PETS; i++) {
+                pets.add(pet(i));
+            }
+            value = pets;
+            writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, Pet.class));
+            reader = mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, Pet.class));
+        }
+        encoded = writer.writeValueAsBytes(value);
+    }
+
+    /**
+     * Encoded size of the payload, set before every iteration.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PayloadSize {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void record(BinaryFormatBenchmark benchmark) {
+            bytes = benchmark.encoded.length;
+        }
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize size) throws JsonProcessingException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object decode(PayloadSize size) throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    private static ObjectMapper mapper(String format) {
+        JacksonConfig config = new JacksonConfig();
+        switch (format) {
+            case "JSON":
+                return config.objectMapper(new Jackson2ObjectMapperBuilder(), JacksonConfig.Accessors.BLACKBIRD);
+            case "CBOR":
+                return config.cborMapper(new Jackson2ObjectMapperBuilder(), JacksonConfig.Accessors.BLACKBIRD);
+            case "SMILE":
+                return config.smileMapper(new Jackson2ObjectMapperBuilder(), JacksonConfig.Accessors.BLACKBIRD);
+            default:
+                throw new IllegalArgumentException("Unknown format " + format);
+        }
+    }
+
+    private static Pet pet(long id) {
+        return new Pet()
+            .id(id)
+            .name("doggie-" + id)
+            .category(new Category().id(1l).name("Dogs"))
+            .photoUrls(List.of("https://example.com/doggie-" + id + ".png"))
+            .tags(List.of(new Tag().id(1l).name("friendly"), new Tag().id(2l).name("small")))
+            .status(Pet.StatusEnum.AVAILABLE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(BinaryFormatBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
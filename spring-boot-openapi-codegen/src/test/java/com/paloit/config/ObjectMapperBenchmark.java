@@ -0,0 +1,124 @@
+package com.paloit.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.paloit.server.petstore.model.Category;
+import com.paloit.server.petstore.model.Order;
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Tag;
+import com.paloit.server.petstore.model.User;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures the throughput of writing and reading the {@code Pet}, {@code Order} and {@code User}
+ * models of the server and of the generated clients with the object mapper of {@link JacksonConfig},
+ * once per {@link JacksonConfig.Accessors} mode. Not part of the test suite, run the main method or
+ * the benchmark profile and compare the rows of the modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+    private static final OffsetDateTime SHIP_DATE = OffsetDateTime.of(2022, 1, 19, 15, 22, 7, 0, ZoneOffset.UTC);
+
+    @Param({"REFLECTION", "BLACKBIRD", "AFTERBURNER"})
+    private JacksonConfig.Accessors accessors;
+
+    @Param({"server.Pet", "server.Order", "server.User", "client.Pet", "client.Order", "client.User"})
+    private String model;
+
+    private Object value;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper mapper = new JacksonConfig().objectMapper(new Jackson2ObjectMapperBuilder(), accessors);
+        value = sample(model);
+        writer = mapper.writerFor(value.getClass());
+        reader = mapper.readerFor(value.getClass());
+        json = writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] write() throws JsonProcessingException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object read() throws IOException {
+        return reader.readValue(json);
+    }
+
+    private static Object sample(String model) {
+        switch (model) {
+            case "server.Pet":
+                return new Pet()
+                    .id(10l)
+                    .name("doggie")
+                    .category(new Category().id(1l).name("Dogs"))
+                    .photoUrls(List.of("https://example.com/doggie-1.png", "https://example.com/doggie-2.png"))
+                    .tags(List.of(new Tag().id(1l).name("friendly"), new Tag().id(2l).name("small")))
+                    .status(Pet.StatusEnum.AVAILABLE);
+            case "server.Order":
+                return new Order().id(10l).petId(198772l).quantity(7).shipDate(SHIP_DATE)
+                    .status(Order.StatusEnum.APPROVED).complete(true);
+            case "server.User":
+                return new User().id(10l).username("theUser").firstName("John").lastName("James")
+                    .email("john@email.com").phone("12345").userStatus(1);
+            case "client.Pet":
+                return new com.paloit.client.petstore.webclient.model.Pet()
+                    .id(10l)
+                    .name("doggie")
+                    .category(new com.paloit.client.petstore.webclient.model.Category().id(1l).name("Dogs"))
+                    .photoUrls(List.of("https://example.com/doggie-1.png", "https://example.com/doggie-2.png"))
+                    .tags(List.of(new com.paloit.client.petstore.webclient.model.Tag().id(1l).name("friendly"),
+                        new com.paloit.client.petstore.webclient.model.Tag().id(2l).name("small")))
+                    .status(com.paloit.client.petstore.webclient.model.Pet.StatusEnum.AVAILABLE);
+            case "client.Order":
+                return new com.paloit.client.petstore.webclient.model.Order().id(10l).petId(198772l).quantity(7)
+                    .shipDate(SHIP_DATE).status(com.paloit.client.petstore.webclient.model.Order.StatusEnum.APPROVED)
+                    .complete(true);
+            case "client.User":
+                return new com.paloit.client.petstore.webclient.model.User().id(10l).username("theUser")
+                    .firstName("John").lastName("James").email("john@email.com").phone("12345").userStatus(1);
+            default:
+                throw new IllegalArgumentException("Unknown model " + model);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ObjectMapperBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
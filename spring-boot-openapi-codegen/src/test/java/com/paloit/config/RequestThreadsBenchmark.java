@@ -0,0 +1,180 @@
+package com.paloit.config;
+
+import com.paloit.Application;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.Filter;
+import javax.servlet.ServletException;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Sends a burst of concurrent slow requests to the server running on the Undertow worker pool and
+ * on virtual threads. Every request sleeps in a servlet filter before it reaches the pet api, as if
+ * the handler waited for a slow downstream service.
+ *
+ * Each invocation sends {@code concurrency} requests at once and waits for all responses, so the
+ * score is the time of the burst, and {@code concurrency} divided by it the throughput. The
+ * {@code peakThreads} and {@code heapUsedMb} rows show the threads of client and server and the heap
+ * used by the burst, next to the allocation of the GC profiler. The {@code VIRTUAL} runs need
+ * Java 21, they fail on older JVMs instead of measuring the worker pool twice.
+ *
+ * Client and server run in the same process and open a connection per request, raise the limit of
+ * open files first, e.g. {@code ulimit -n 65536}. Not part of the test suite and excluded from the
+ * default run of the benchmark profile, run the main method or select it with
+ * {@code -Dbenchmark.include=RequestThreadsBenchmark -Dbenchmark.exclude=^$}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestThreadsBenchmark {
+
+    @Param({"WORKER", "VIRTUAL"})
+    public UndertowConfig.RequestThreads requestThreads;
+
+    @Param({"10000"})
+    public int concurrency;
+
+    @Param({"100"})
+    public long delayMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    /**
+     * Threads and heap after a burst, reset before every invocation.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Resources {
+
+        private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+        private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+        public long peakThreads;
+        public long heapUsedMb;
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            THREADS.resetPeakThreadCount();
+        }
+
+        void record() {
+            peakThreads = THREADS.getPeakThreadCount();
+            heapUsedMb = MEMORY.getHeapMemoryUsage().getUsed() >> 20;
+        }
+    }
+
+    /**
+     * Source of the filter delaying the pet api, passed to the application next to {@link Application}.
+     */
+    public static class SlowRequests {
+
+        @Bean
+        public FilterRegistrationBean<Filter> slowRequestFilter(@Value("${benchmark.delay-millis}") long delayMillis) {
+            Filter filter = (request, response, chain) -> {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ServletException(e);
+                }
+                chain.doFilter(request, response);
+            };
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>(filter);
+            registration.addUrlPatterns("/api/v3/pet/*");
+            return registration;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class, SlowRequests.class)
+            .properties(
+                "server.port=0",
+                "petstore.server.request-threads=" + requestThreads,
+                "petstore.server.virtual-thread-fallback=false",
+                "petstore.warm-up.enabled=false",
+                "benchmark.delay-millis=" + delayMillis,
+                "logging.level.root=WARN",
+                "logging.level.com.paloit=WARN")
+            .run();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v3/pet/1"))
+            .header("Accept", "application/json")
+            .timeout(Duration.ofMinutes(5))
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int slowRequests(Resources resources) {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200) {
+                ok++;
+            }
+        }
+        resources.record();
+        if (ok != concurrency) {
+            throw new IllegalStateException((concurrency - ok) + " of " + concurrency + " requests failed");
+        }
+        return ok;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RequestThreadsBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.paloit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+public class UndertowTuningTest {
+
+    private static final long GB = 1024L * 1024 * 1024;
+
+    @Test
+    public void of_NothingSet_SizedFromCoresAndHeap() {
+        var tuning = UndertowTuning.of(null, null, null, null, null, null, false, 4, GB);
+
+        assertThat(tuning.getIoThreads()).isEqualTo(4);
+        assertThat(tuning.getWorkerThreads()).isEqualTo(32);
+        assertThat(tuning.getBufferSize()).isEqualTo(16 * 1024);
+        assertThat(tuning.isDirectBuffers()).isTrue();
+        assertThat(tuning.getMaxEntitySize()).isEqualTo(UndertowTuning.UNLIMITED);
+        assertThat(tuning.getMaxConnections()).isEqualTo(16384);
+        assertThat(tuning.getConnectionLowWater()).isEqualTo(14745);
+    }
+
+    @Test
+    public void of_SmallHeap_SmallHeapBuffersAndLowerBounds() {
+        var tuning = UndertowTuning.of(null, null, null, null, null, null, false, 1, 16L * 1024 * 1024);
+
+        assertThat(tuning.getIoThreads()).isEqualTo(2);
+        assertThat(tuning.getWorkerThreads()).isEqualTo(16);
+        assertThat(tuning.getBufferSize()).isEqualTo(1024);
+        assertThat(tuning.isDirectBuffers()).isFalse();
+        assertThat(tuning.getMaxEntitySize()).isEqualTo(UndertowTuning.UNLIMITED);
+        assertThat(tuning.getMaxConnections()).isEqualTo(256);
+    }
+
+    @Test
+    public void of_Set_ConfiguredSizes() {
+        var tuning = UndertowTuning.of(2, 200, DataSize.ofKilobytes(8), false, DataSize.ofMegabytes(10), 1000, true, 16, GB);
+
+        assertThat(tuning.getIoThreads()).isEqualTo(2);
+        assertThat(tuning.getWorkerThreads()).isEqualTo(200);
+        assertThat(tuning.getBufferSize()).isEqualTo(8 * 1024);
+        assertThat(tuning.isDirectBuffers()).isFalse();
+        assertThat(tuning.getMaxEntitySize()).isEqualTo(10 * 1024 * 1024);
+        assertThat(tuning.getMaxConnections()).isEqualTo(1000);
+        assertThat(tuning.getConnectionLowWater()).isEqualTo(900);
+        assertThat(tuning.isHttp2()).isTrue();
+    }
+
+    @Test
+    public void of_OutOfRange_IllegalArgument() {
+        assertThatThrownBy(() -> UndertowTuning.of(0, null, null, null, null, null, false, 4, GB))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("petstore.server.undertow.io-threads");
+        assertThatThrownBy(() -> UndertowTuning.of(null, null, DataSize.ofBytes(100), null, null, null, false, 4, GB))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("petstore.server.undertow.buffer-size");
+    }
+}
@@ -0,0 +1,114 @@
+package com.paloit.config;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.paloit.util.BaseTest;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.servlet.Filter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"petstore.server.request-threads=VIRTUAL", "petstore.server.virtual-thread-fallback=true"}
+)
+public class VirtualThreadsTest extends BaseTest {
+
+    @Autowired
+    private UndertowConfig.RequestThreadsCustomizer requestThreadsCustomizer;
+
+    @Test
+    public void newThreadPerTaskExecutor_AvailableFromJava21() throws Exception {
+        var executor = VirtualThreads.newThreadPerTaskExecutor("test-virtual-");
+
+        assertThat(executor.isPresent()).isEqualTo(Runtime.version().feature() >= 21);
+        if (executor.isPresent()) {
+            ExecutorService virtual = executor.get();
+            Thread thread = virtual.submit(Thread::currentThread).get();
+            virtual.shutdown();
+
+            assertThat(VirtualThreads.isVirtual(thread)).isTrue();
+            assertThat(thread.getName()).startsWith("test-virtual-");
+        }
+    }
+
+    @Test
+    public void getPetById_VirtualThreadsWithFallback_ReturnPet() {
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .get(PATH_PREFIX + "/pet/{petId}", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("name", equalTo("Bear"));
+    }
+
+    @Test
+    public void getPetById_VirtualThreadsSelected_RunsOnVirtualThreadFromJava21() {
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .get(PATH_PREFIX + "/pet/{petId}", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        Thread thread = RequestThreadRecorder.lastThread.get();
+        assertThat(thread).isNotNull();
+        assertThat(VirtualThreads.isVirtual(thread)).isEqualTo(Runtime.version().feature() >= 21);
+        if (VirtualThreads.isVirtual(thread)) {
+            assertThat(thread.getName()).startsWith("undertow-virtual-");
+        }
+        assertThat(requestThreadsCustomizer.getRequestThreads()).isEqualTo(Runtime.version().feature() >= 21
+            ? UndertowConfig.RequestThreads.VIRTUAL
+            : UndertowConfig.RequestThreads.WORKER);
+    }
+
+    @Test
+    public void undertow_VirtualThreadsSelected_ReportsModeAndVirtualThreads() {
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .get(PATH_PREFIX + "/pet/{petId}", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        boolean virtual = Runtime.version().feature() >= 21;
+        given()
+            .when()
+            .get("/actuator/undertow")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("requestThreads", equalTo(virtual ? "VIRTUAL" : "WORKER"))
+            .body("virtualThreads.started", virtual ? greaterThan(0) : nullValue());
+    }
+
+    /**
+     * Records the thread which runs the servlet filters and the handler of a request.
+     */
+    @TestConfiguration
+    static class RequestThreadRecorder {
+
+        static final AtomicReference<Thread> lastThread = new AtomicReference<>();
+
+        @Bean
+        FilterRegistrationBean<Filter> requestThreadFilter() {
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+                lastThread.set(Thread.currentThread());
+                chain.doFilter(request, response);
+            });
+            registration.addUrlPatterns(PATH_PREFIX + "/pet/*");
+            return registration;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.paloit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paloit.client.cache.ResponseCacheFilter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+public class WebclientConfigTest {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_OBJECT = new ParameterizedTypeReference<>() {};
+
+    @Test
+    public void new_DefaultSettings_Accepted() {
+        assertThat(config(200, Duration.ofSeconds(5), DataSize.ofMegabytes(2))).isNotNull();
+    }
+
+    @Test
+    public void new_NotPositive_IllegalArgument() {
+        assertThatThrownBy(() -> config(0, Duration.ofSeconds(5), DataSize.ofMegabytes(2)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("client.http.max-connections");
+        assertThatThrownBy(() -> config(200, Duration.ofSeconds(-1), DataSize.ofMegabytes(2)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("client.http.pending-acquire-timeout");
+        assertThatThrownBy(() -> config(200, Duration.ZERO, DataSize.ofMegabytes(2)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("client.http.pending-acquire-timeout");
+        assertThatThrownBy(() -> config(200, Duration.ofSeconds(5), DataSize.ofBytes(-1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("client.http.max-in-memory-size");
+    }
+
+    @Test
+    public void generalWebClient_ProblemJson_Decoded() {
+        Map<String, Object> problem = webClient(MediaType.APPLICATION_PROBLEM_JSON, "{\"title\":\"Not Found\",\"status\":404}")
+            .get()
+            .uri("http://localhost/pet/1")
+            .retrieve()
+            .bodyToMono(JSON_OBJECT)
+            .block();
+
+        assertThat(problem).containsEntry("title", "Not Found");
+    }
+
+    @Test
+    public void generalWebClient_Ndjson_DecodedPerLine() {
+        List<Map<String, Object>> pets = webClient(MediaType.APPLICATION_NDJSON, "{\"id\":1}\n{\"id\":2}\n")
+            .get()
+            .uri("http://localhost/pet/findByStatus")
+            .retrieve()
+            .bodyToFlux(JSON_OBJECT)
+            .collectList()
+            .block();
+
+        assertThat(pets).extracting(pet -> pet.get("id")).containsExactly(1, 2);
+    }
+
+    /**
+     * The configured webclient, answering every request with the body instead of calling a server.
+     */
+    private static WebClient webClient(MediaType contentType, String body) {
+        var config = config(200, Duration.ofSeconds(5), DataSize.ofMegabytes(2));
+        ConnectionProvider connectionProvider = config.webClientConnectionProvider();
+        connectionProvider.dispose();
+        ClientHttpConnector connector = (method, uri, requestCallback) -> {
+            var response = new MockClientHttpResponse(HttpStatus.OK);
+            response.getHeaders().setContentType(contentType);
+            response.setBody(body);
+            return Mono.just(response);
+        };
+        return config.generalWebClient(WebClient.builder(), connectionProvider,
+                new StaticListableBeanFactory().getBeanProvider(ResponseCacheFilter.class))
+            .mutate()
+            .clientConnector(connector)
+            .build();
+    }
+
+    private static WebclientConfig config(int maxConnections, Duration pendingAcquireTimeout, DataSize maxInMemorySize) {
+        return new WebclientConfig(new ObjectMapper(), maxConnections, 1000, pendingAcquireTimeout,
+            Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofSeconds(10),
+            Duration.ofSeconds(10), true, true, false, maxInMemorySize, true);
+    }
+}
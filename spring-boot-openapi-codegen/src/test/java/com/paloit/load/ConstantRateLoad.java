@@ -0,0 +1,100 @@
+package com.paloit.load;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Open-model load of one operation: requests are started at a constant arrival rate whether or not
+ * earlier requests have completed, as independent users would send them.
+ *
+ * The latency of a request is measured from the time it was scheduled to start, not from the time
+ * it was sent. If the generator or the client falls behind, the waiting time is part of the
+ * latency, which corrects the coordinated omission of closed-loop load generators.
+ */
+@Slf4j
+public class ConstantRateLoad {
+
+    private final String operationId;
+    private final Supplier<Mono<?>> operation;
+    private final double ratePerSecond;
+    private final Duration timeout;
+
+    private final Recorder latencies = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * @param operationId reported operation
+     * @param operation creates the request, subscribed to once per request
+     * @param ratePerSecond requests started per second
+     * @param timeout time after which a request counts as failed
+     */
+    public ConstantRateLoad(String operationId, Supplier<Mono<?>> operation, double ratePerSecond, Duration timeout) {
+        this.operationId = operationId;
+        this.operation = operation;
+        this.ratePerSecond = ratePerSecond;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Starts requests for the given duration on the calling thread and waits for them to complete.
+     *
+     * @param duration time requests are started for
+     * @return latencies and errors of the requests started during the duration
+     */
+    public LoadResult run(Duration duration) throws InterruptedException {
+        latencies.reset();
+        errors.reset();
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        long requests = 0;
+        for (long scheduled = start; scheduled < end; scheduled = start + ++requests * interval) {
+            long delay;
+            while ((delay = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            send(scheduled);
+        }
+
+        long drainUntil = System.nanoTime() + timeout.toNanos() * 2;
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            Thread.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            log.warn("{}: {} requests still in flight", operationId, inFlight.get());
+        }
+
+        Histogram histogram = latencies.getIntervalHistogram();
+        return new LoadResult(operationId, ratePerSecond, duration, requests, errors.sum(), histogram);
+    }
+
+    private void send(long scheduled) {
+        inFlight.incrementAndGet();
+        Mono.defer(operation)
+            .timeout(timeout)
+            .subscribe(
+                value -> { },
+                error -> complete(scheduled, error),
+                () -> complete(scheduled, null));
+    }
+
+    private void complete(long scheduled, Throwable error) {
+        // Failed requests are recorded too, so slow failures are not hidden from the percentiles
+        latencies.recordValue(System.nanoTime() - scheduled);
+        if (error != null) {
+            errors.increment();
+            log.debug("{} failed", operationId, error);
+        }
+        inFlight.decrementAndGet();
+    }
+}
@@ -0,0 +1,85 @@
+package com.paloit.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency distribution and errors of one operation under {@link ConstantRateLoad}.
+ */
+public class LoadResult {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final String operationId;
+    private final double targetRate;
+    private final Duration duration;
+    private final long requests;
+    private final long errors;
+    private final Histogram latencies;
+
+    LoadResult(String operationId, double targetRate, Duration duration, long requests, long errors, Histogram latencies) {
+        this.operationId = operationId;
+        this.targetRate = targetRate;
+        this.duration = duration;
+        this.requests = requests;
+        this.errors = errors;
+        this.latencies = latencies;
+    }
+
+    public String getOperationId() {
+        return operationId;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @param percentile percentile between 0 and 100, e.g. 99.9
+     * @return latency at the percentile
+     */
+    public Duration latencyAt(double percentile) {
+        return Duration.ofNanos(latencies.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * Prints one line per operation with the requests, errors and p50/p99/p99.9/max latencies in ms.
+     */
+    public static void printSummary(List<LoadResult> results, PrintStream out) {
+        out.printf("%-20s %8s %8s %8s %10s %10s %10s %10s%n",
+            "operationId", "rate/s", "requests", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (LoadResult result : results) {
+            out.printf("%-20s %8.0f %8d %8d %10.2f %10.2f %10.2f %10.2f%n",
+                result.operationId,
+                result.requests * 1000.0 / result.duration.toMillis(),
+                result.requests,
+                result.errors,
+                result.latencies.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                result.latencies.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                result.latencies.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                result.latencies.getMaxValue() / NANOS_PER_MILLI);
+        }
+    }
+
+    /**
+     * Writes the full percentile distribution in ms as {@code <operationId>.hgrm}, which the
+     * HdrHistogram plotter can read.
+     */
+    public void writeDistribution(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(operationId + ".hgrm")))) {
+            out.printf("# %s at %.0f requests/s for %s%n", operationId, targetRate, duration);
+            latencies.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.paloit.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paloit.client.petstore.webclient.api.PetApi;
+import com.paloit.client.petstore.webclient.api.StoreApi;
+import com.paloit.client.petstore.webclient.api.UserApi;
+import com.paloit.client.petstore.webclient.apiclient.ApiClient;
+import com.paloit.client.petstore.webclient.model.Order;
+import com.paloit.client.petstore.webclient.model.Pet;
+import com.paloit.client.petstore.webclient.model.User;
+import com.paloit.util.BaseTest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Load test of the petstore through the generated clients, excluded from the default build.
+ * Run it with {@code mvn verify -P load-test}.
+ *
+ * Every operation gets its own constant arrival rate, see {@link ConstantRateLoad}. After a warm-up
+ * the p50/p99/p99.9 latencies per operationId are printed and written to {@code target/load-test},
+ * and the test fails if an operation has errors or exceeds the latency budget. Rates, durations and
+ * budgets are system properties:
+ * {@code loadtest.rate} (requests/s per operation, 100), {@code loadtest.warm-up} (10s),
+ * {@code loadtest.duration} (30s), {@code loadtest.budget.p99} (100ms), {@code loadtest.budget.p999} (500ms).
+ */
+@Tag("load")
+public class PetstoreLoadTest extends BaseTest {
+
+    private static final int PETS = 100;
+    private static final String USERNAME = "load-test";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private WebClient webClient;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void constantArrivalRate_LatencyWithinBudget() throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "100"));
+        Duration warmUp = duration("loadtest.warm-up", "10s");
+        Duration duration = duration("loadtest.duration", "30s");
+        Duration p99Budget = duration("loadtest.budget.p99", "100ms");
+        Duration p999Budget = duration("loadtest.budget.p999", "500ms");
+
+        ApiClient apiClient = new ApiClient(webClient, objectMapper, ApiClient.createDefaultDateFormat())
+            .setBasePath("http://localhost:" + port + PATH_PREFIX);
+        PetApi petApi = new PetApi(apiClient);
+        StoreApi storeApi = new StoreApi(apiClient);
+        UserApi userApi = new UserApi(apiClient);
+        createData(petApi, userApi);
+
+        List<ConstantRateLoad> loads = List.of(
+            new ConstantRateLoad("getPetById", () -> petApi.getPetById(randomPetId()), rate, TIMEOUT),
+            new ConstantRateLoad("findPetsByStatus", () -> petApi.findPetsByStatus("available", 20, null).collectList(), rate, TIMEOUT),
+            new ConstantRateLoad("addPet", () -> petApi.addPet(pet(null)), rate, TIMEOUT),
+            new ConstantRateLoad("getInventory", storeApi::getInventory, rate, TIMEOUT),
+            new ConstantRateLoad("placeOrder", () -> storeApi.placeOrder(new Order().petId(randomPetId()).quantity(1)), rate, TIMEOUT),
+            new ConstantRateLoad("getUserByName", () -> userApi.getUserByName(USERNAME), rate, TIMEOUT)
+        );
+
+        run(loads, warmUp);
+        List<LoadResult> results = run(loads, duration);
+
+        LoadResult.printSummary(results, System.out);
+        SoftAssertions softly = new SoftAssertions();
+        for (LoadResult result : results) {
+            result.writeDistribution(Path.of("target", "load-test"));
+            softly.assertThat(result.getErrors()).as("%s errors", result.getOperationId()).isZero();
+            softly.assertThat(result.latencyAt(99)).as("%s p99", result.getOperationId()).isLessThanOrEqualTo(p99Budget);
+            softly.assertThat(result.latencyAt(99.9)).as("%s p99.9", result.getOperationId()).isLessThanOrEqualTo(p999Budget);
+        }
+        softly.assertAll();
+    }
+
+    /**
+     * Runs all loads at the same time, each on its own generator thread.
+     */
+    private static List<LoadResult> run(List<ConstantRateLoad> loads, Duration duration) throws Exception {
+        ExecutorService generators = Executors.newFixedThreadPool(loads.size());
+        try {
+            List<Future<LoadResult>> futures = new ArrayList<>();
+            for (ConstantRateLoad load : loads) {
+                futures.add(generators.submit(() -> load.run(duration)));
+            }
+            List<LoadResult> results = new ArrayList<>();
+            for (Future<LoadResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            generators.shutdownNow();
+        }
+    }
+
+    private static void createData(PetApi petApi, UserApi userApi) {
+        for (long id = 1; id <= PETS; id++) {
+            petApi.addPet(pet(id)).block(TIMEOUT);
+        }
+        userApi.createUser(new User().username(USERNAME).firstName("Load").lastName("Test").email("load@test.com"))
+            .block(TIMEOUT);
+        assertThat(userApi.getUserByName(USERNAME).block(TIMEOUT)).isNotNull();
+    }
+
+    private static Pet pet(Long id) {
+        return new Pet().id(id).name("Load test pet").photoUrls(List.of()).status(Pet.StatusEnum.AVAILABLE);
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    private static long randomPetId() {
+        return ThreadLocalRandom.current().nextLong(1, PETS + 1);
+    }
+}
@@ -0,0 +1,126 @@
+package com.paloit.server.petstore.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.paloit.client.petstore.webclient.api.PetApi;
+import com.paloit.client.petstore.webclient.apiclient.ApiClient;
+import com.paloit.config.BinaryFormatConfig;
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.util.BaseTest;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+public class BinaryFormatTest extends BaseTest {
+
+    private static final String SMILE = BinaryFormatConfig.APPLICATION_SMILE.toString();
+
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WebClient webClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void getPetById_AcceptCbor_Cbor() throws Exception {
+        byte[] body = given()
+                .accept(MediaType.APPLICATION_CBOR_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/pet/{petId}", 1)
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith(MediaType.APPLICATION_CBOR_VALUE))
+                .extract()
+                .asByteArray();
+
+        assertThat(cbor.readValue(body, Pet.class).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    public void findPetsByStatus_PrefersSmile_SmileInsteadOfStream() throws Exception {
+        byte[] body = given()
+                .accept(SMILE + ", application/json;q=0.9")
+                .queryParam("status", "available")
+                .when()
+                .get(PATH_PREFIX + "/pet/findByStatus")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith(SMILE))
+                .extract()
+                .asByteArray();
+
+        List<Pet> pets = smile.readValue(body, new TypeReference<List<Pet>>() {});
+        assertThat(pets).isNotEmpty().allMatch(pet -> pet.getStatus() == Pet.StatusEnum.AVAILABLE);
+    }
+
+    @Test
+    public void getInventory_AcceptCbor_CountsWithoutEtag() throws Exception {
+        byte[] body = given()
+                .accept(MediaType.APPLICATION_CBOR_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith(MediaType.APPLICATION_CBOR_VALUE))
+                .header(HttpHeaders.ETAG, nullValue())
+                .extract()
+                .asByteArray();
+
+        Map<String, Integer> inventory = cbor.readValue(body, new TypeReference<Map<String, Integer>>() {});
+        assertThat(inventory).containsKey("available");
+    }
+
+    @Test
+    public void addPet_CborBody_Stored() throws Exception {
+        Pet pet = new Pet().id(9_100_001L).name("Cbor").photoUrls(List.of()).status(Pet.StatusEnum.PENDING);
+
+        byte[] body = given()
+                .contentType(MediaType.APPLICATION_CBOR_VALUE)
+                .accept(MediaType.APPLICATION_CBOR_VALUE)
+                .body(cbor.writeValueAsBytes(pet))
+                .when()
+                .post(PATH_PREFIX + "/pet")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .asByteArray();
+
+        assertThat(cbor.readValue(body, Pet.class).getName()).isEqualTo("Cbor");
+    }
+
+    @Test
+    public void apiClient_PreferredCbor_DecodesPetAndSearch() {
+        PetApi petApi = new PetApi(new ApiClient(webClient, objectMapper, ApiClient.createDefaultDateFormat())
+                .setBasePath("http://localhost:" + port + PATH_PREFIX)
+                .setPreferredAccept(MediaType.APPLICATION_CBOR));
+
+        assertThat(petApi.getPetById(1L).block().getId()).isEqualTo(1L);
+        assertThat(petApi.findPetsByStatus("available", null, null).collectList().block()).isNotEmpty();
+    }
+}
@@ -0,0 +1,178 @@
+package com.paloit.server.petstore.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paloit.Application;
+import com.paloit.config.JacksonConfig;
+import com.paloit.server.petstore.model.Order;
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Pet.StatusEnum;
+import com.paloit.server.petstore.repository.OrderRepository;
+import com.paloit.server.petstore.repository.PetIndex;
+import com.paloit.server.petstore.repository.PetRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Measures the pet and store delegates called directly, and the same operations dispatched through
+ * Spring MVC with MockMvc, which adds argument resolution, content negotiation and serialization.
+ * Not part of the test suite, run the main method or the benchmark profile and compare the
+ * {@code gc.alloc.rate.norm} (bytes per call) rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ControllerBenchmark {
+
+    private static final int PETS = 1000;
+
+    /**
+     * Controllers without a web request, as in a plain method call.
+     */
+    @State(Scope.Benchmark)
+    public static class Delegates {
+
+        private PetApiControllerImpl petController;
+        private StoreApiControllerImpl storeController;
+        private long petId;
+
+        @Setup
+        public void setUp() {
+            ObjectMapper objectMapper = new JacksonConfig()
+                .objectMapper(new Jackson2ObjectMapperBuilder(), JacksonConfig.Accessors.REFLECTION);
+            PetRepository petRepository = new PetRepository(PetIndex.Type.SORTED_SET);
+            petController = new PetApiControllerImpl(petRepository, objectMapper, null, false);
+            storeController = new StoreApiControllerImpl(new OrderRepository(), petRepository, objectMapper, false, null, null);
+            StatusEnum[] statuses = StatusEnum.values();
+            for (long id = 1; id <= PETS; id++) {
+                petRepository.save(new Pet().id(id).name("Pet " + id).photoUrls(List.of())
+                    .status(statuses[(int) (id % statuses.length)]));
+            }
+        }
+
+        long nextPetId() {
+            return petId++ % PETS + 1;
+        }
+    }
+
+    /**
+     * The application with MockMvc on its web application context.
+     */
+    @State(Scope.Benchmark)
+    public static class Dispatch {
+
+        private ConfigurableApplicationContext context;
+        private MockMvc mockMvc;
+        private long petId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = new SpringApplicationBuilder(Application.class)
+                .properties(
+                    "server.port=0",
+                    "petstore.warm-up.enabled=false",
+                    "logging.level.root=WARN",
+                    "logging.level.com.paloit=WARN")
+                .run();
+            mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+            PetRepository petRepository = context.getBean(PetRepository.class);
+            StatusEnum[] statuses = StatusEnum.values();
+            for (long id = 1; id <= PETS; id++) {
+                petRepository.save(new Pet().id(id).name("Pet " + id).photoUrls(List.of())
+                    .status(statuses[(int) (id % statuses.length)]));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        long nextPetId() {
+            return petId++ % PETS + 1;
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<Pet> getPetById(Delegates delegates) {
+        return delegates.petController.getPetById(delegates.nextPetId());
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Pet>> findPetsByStatus(Delegates delegates) {
+        return delegates.petController.findPetsByStatus("available", 20, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<Order> getOrderById(Delegates delegates) {
+        return delegates.storeController.getOrderById(1l);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Integer>> getInventory(Delegates delegates) {
+        return delegates.storeController.getInventory();
+    }
+
+    @Benchmark
+    public MvcResult dispatchGetPetById(Dispatch dispatch) throws Exception {
+        return dispatch.mockMvc.perform(get("/api/v3/pet/{petId}", dispatch.nextPetId())
+            .accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult dispatchFindPetsByStatus(Dispatch dispatch) throws Exception {
+        return dispatch.mockMvc.perform(get("/api/v3/pet/findByStatus")
+            .param("status", "available")
+            .param("limit", "20")
+            .accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult dispatchGetOrderById(Dispatch dispatch) throws Exception {
+        return dispatch.mockMvc.perform(get("/api/v3/store/order/{orderId}", 1)
+            .accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult dispatchGetInventory(Dispatch dispatch) throws Exception {
+        return dispatch.mockMvc.perform(get("/api/v3/store/inventory")
+            .accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ControllerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
@@ -7,6 +7,11 @@ import org.springframework.http.MediaType;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -46,6 +51,218 @@ public class PetApiControllerImplTest extends BaseTest {
                 .statusCode(HttpStatus.NOT_FOUND.value());
     }
 
+    @Test
+    public void addPet_WithoutId_AssignIdAndReturnPet() throws Exception {
+        int petId = given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .body("{ \"name\": \"Rex\", \"photoUrls\": [], \"status\": \"pending\" }")
+            .when()
+            .post(PATH_PREFIX + "/pet")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("name", equalTo("Rex"))
+            .extract()
+            .path("id");
+
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .get(PATH_PREFIX + "/pet/{petId}", petId)
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("status", equalTo("pending"));
+    }
+
+    @Test
+    public void updatePetWithForm_ExistingPet_UpdateNameAndStatus() throws Exception {
+        var petId = 101;
+        createPet(petId, "Tiger");
+
+        given()
+            .queryParam("name", "Lion")
+            .queryParam("status", "sold")
+            .when()
+            .post(PATH_PREFIX + "/pet/{petId}", petId)
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .get(PATH_PREFIX + "/pet/{petId}", petId)
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("name", equalTo("Lion"))
+            .body("status", equalTo("sold"));
+    }
+
+    @Test
+    public void updatePet_UnknownId_NotFound() throws Exception {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .body("{ \"id\": 9999, \"name\": \"Ghost\", \"photoUrls\": [] }")
+            .when()
+            .put(PATH_PREFIX + "/pet")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    public void deletePet_ExistingPet_NotFoundAfterwards() throws Exception {
+        var petId = 102;
+        createPet(petId, "Cat");
+
+        given()
+            .when()
+            .delete(PATH_PREFIX + "/pet/{petId}", petId)
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .get(PATH_PREFIX + "/pet/{petId}", petId)
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    public void findPetsByTags_MultipleTags_ReturnPetsWithAllTags() throws Exception {
+        createPet(103, "Rocky", "mountain", "goat");
+        createPet(104, "Billy", "goat");
+
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .queryParam("tags", "goat", "mountain")
+            .when()
+            .get(PATH_PREFIX + "/pet/findByTags")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", equalTo(1))
+            .body("[0].id", equalTo(103));
+    }
+
+    @Test
+    public void findPetsByTags_AcceptNdjson_StreamOnePetPerLine() throws Exception {
+        createPet(105, "Nemo", "fish");
+        createPet(106, "Dory", "fish");
+
+        String body = given()
+            .accept("application/x-ndjson")
+            .queryParam("tags", "fish")
+            .when()
+            .get(PATH_PREFIX + "/pet/findByTags")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(startsWith("application/x-ndjson"))
+            .extract()
+            .asString();
+
+        assertThat(body.split("\n"))
+            .hasSize(2)
+            .anySatisfy(line -> assertThat(line).contains("\"name\":\"Nemo\""))
+            .anySatisfy(line -> assertThat(line).contains("\"name\":\"Dory\""));
+    }
+
+    @Test
+    public void findPetsByStatus_InvalidStatus_BadRequest() throws Exception {
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .queryParam("status", "lost")
+            .when()
+            .get(PATH_PREFIX + "/pet/findByStatus")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    public void findPetsByStatus_ValidStatus_ContainPet() throws Exception {
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .queryParam("status", "available")
+            .when()
+            .get(PATH_PREFIX + "/pet/findByStatus")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("id", hasItem(1));
+    }
+
+    @Test
+    public void findPetsByTags_Limit_FollowNextCursor() throws Exception {
+        createPet(107, "Tweety", "canary");
+        createPet(108, "Piolin", "canary");
+        createPet(109, "Titi", "canary");
+
+        String cursor = given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .queryParam("tags", "canary")
+            .queryParam("limit", 2)
+            .when()
+            .get(PATH_PREFIX + "/pet/findByTags")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("id", contains(107, 108))
+            .extract()
+            .header(PetApiControllerImpl.NEXT_CURSOR_HEADER);
+
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .queryParam("tags", "canary")
+            .queryParam("limit", 2)
+            .queryParam("cursor", cursor)
+            .when()
+            .get(PATH_PREFIX + "/pet/findByTags")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("id", contains(109))
+            .header(PetApiControllerImpl.NEXT_CURSOR_HEADER, nullValue());
+    }
+
+    @Test
+    public void findPetsByStatus_InvalidCursor_BadRequest() throws Exception {
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .queryParam("status", "available")
+            .queryParam("limit", 10)
+            .queryParam("cursor", "not-a-cursor")
+            .when()
+            .get(PATH_PREFIX + "/pet/findByStatus")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private void createPet(int petId, String name, String... tags) {
+        var tagsJson = new StringBuilder();
+        for (String tag : tags) {
+            tagsJson.append(tagsJson.length() == 0 ? "" : ", ").append("{ \"name\": \"").append(tag).append("\" }");
+        }
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .body("{ \"id\": " + petId + ", \"name\": \"" + name + "\", \"photoUrls\": [], \"tags\": [" + tagsJson + "], \"status\": \"available\" }")
+            .when()
+            .post(PATH_PREFIX + "/pet")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+    }
+
     // Add further tests...
 
 }
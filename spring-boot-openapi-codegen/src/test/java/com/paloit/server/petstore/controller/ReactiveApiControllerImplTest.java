@@ -0,0 +1,159 @@
+package com.paloit.server.petstore.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.util.BaseTest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive"
+)
+public class ReactiveApiControllerImplTest extends BaseTest {
+
+    @Test
+    public void getPetById_ValidId_ReturnPet() {
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/pet/{petId}", 1)
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .body("name", equalTo("Bear"));
+    }
+
+    @Test
+    public void getPetById_UnknownId_ReturnNotFound() {
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/pet/{petId}", 999999)
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    public void findPetsByStatus_Limit_ReturnPageWithCursor() {
+        for (int i = 0; i < 3; i++) {
+            given()
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .body("{ \"name\": \"Reactive\", \"photoUrls\": [], \"status\": \"pending\" }")
+                    .when()
+                    .post(PATH_PREFIX + "/pet")
+                    .then()
+                    .assertThat()
+                    .statusCode(HttpStatus.OK.value());
+        }
+
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("status", "pending")
+                .queryParam("limit", 2)
+                .when()
+                .get(PATH_PREFIX + "/pet/findByStatus")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .header(PetApiControllerImpl.NEXT_CURSOR_HEADER, notNullValue())
+                .body("$", hasSize(2));
+    }
+
+    @Test
+    public void findPetsByStatus_AcceptCbor_ReturnCborArray() throws Exception {
+        byte[] body = given()
+                .accept(MediaType.APPLICATION_CBOR_VALUE)
+                .queryParam("status", "available")
+                .when()
+                .get(PATH_PREFIX + "/pet/findByStatus")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith(MediaType.APPLICATION_CBOR_VALUE))
+                .extract()
+                .asByteArray();
+
+        // The Flux of pets is collected by the CborEncoder into a single CBOR array
+        List<Pet> pets = new ObjectMapper(new CBORFactory())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .readValue(body, new TypeReference<List<Pet>>() {});
+        assertThat(pets).isNotEmpty().allMatch(pet -> pet.getStatus() == Pet.StatusEnum.AVAILABLE);
+    }
+
+    @Test
+    public void getInventory_SameEtag_ReturnNotModified() {
+        String etag = given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.ETAG, notNullValue())
+                .extract()
+                .header(HttpHeaders.ETAG);
+
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    public void importUsers_Ndjson_ReturnResultPerUser() {
+        given()
+                .contentType("application/x-ndjson")
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .body("{ \"username\": \"reactive-1\", \"email\": \"r1@test.com\" }\n"
+                        + "{ \"username\": \"reactive-2\", \"email\": \"r2@test.com\" }\n")
+                .when()
+                .post(PATH_PREFIX + "/user/import")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .body("$", hasSize(2));
+
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/user/{username}", "reactive-2")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .body("email", equalTo("r2@test.com"));
+    }
+
+    @Test
+    public void createUsersWithListInput_JsonArray_ReturnLastCreatedUser() {
+        given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .body("[ { \"username\": \"reactive-list1\" }, { \"username\": \"reactive-list2\" }, { \"firstName\": \"John\" } ]")
+                .when()
+                .post(PATH_PREFIX + "/user/createWithList")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .body("username", equalTo("reactive-list2"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.paloit.server.petstore.controller;
+
+import com.paloit.util.BaseTest;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.config.DecoderConfig.decoderConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"server.compression.enabled=true", "server.compression.min-response-size=16B"}
+)
+public class ResponseCompressionTest extends BaseTest {
+
+    @Test
+    public void getInventory_AcceptsGzip_PreCompressedWithOwnEtag() {
+        String etag = given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.ETAG, endsWith("-gzip\""))
+                .body("available", notNullValue())
+                .extract()
+                .header(HttpHeaders.ETAG);
+
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    public void getInventory_NoAcceptEncoding_Uncompressed() {
+        String etag = given()
+                .config(RestAssured.config().decoderConfig(decoderConfig().noContentDecoders()))
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.CONTENT_ENCODING, nullValue())
+                .body("available", notNullValue())
+                .extract()
+                .header(HttpHeaders.ETAG);
+
+        assertThat(etag).doesNotEndWith("-gzip\"");
+    }
+
+    @Test
+    public void findPetsByStatus_AcceptsGzip_Compressed() {
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .queryParam("status", "available")
+                .when()
+                .get(PATH_PREFIX + "/pet/findByStatus")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body("[0].status", equalTo("available"));
+    }
+
+    @Test
+    public void isAccepted_AcceptEncoding_GzipWithPositiveQuality() {
+        assertThat(Gzip.isAccepted("gzip, deflate, br")).isTrue();
+        assertThat(Gzip.isAccepted("deflate, *;q=0.5")).isTrue();
+        assertThat(Gzip.isAccepted("gzip;q=0, *")).isFalse();
+        assertThat(Gzip.isAccepted("identity")).isFalse();
+        assertThat(Gzip.isAccepted(null)).isFalse();
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -12,6 +13,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -36,5 +39,111 @@ public class StoreApiControllerImplTest extends BaseTest {
                 .body("complete", equalTo(false));
     }
 
+    @Test
+    public void placeOrder_ValidOrder_CountInInventory() throws Exception {
+        int approved = given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .path("approved");
+
+        int orderId = given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .body("{ \"petId\": 1, \"quantity\": 3, \"status\": \"approved\" }")
+                .when()
+                .post(PATH_PREFIX + "/store/order")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .body("complete", equalTo(false))
+                .extract()
+                .path("id");
+
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .body("approved", equalTo(approved + 3));
+
+        given()
+                .when()
+                .delete(PATH_PREFIX + "/store/order/{orderId}", orderId)
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/store/order/{orderId}", orderId)
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    public void placeOrder_UnknownPet_InvalidInput() throws Exception {
+        given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .body("{ \"petId\": 999999, \"quantity\": 1 }")
+                .when()
+                .post(PATH_PREFIX + "/store/order")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.METHOD_NOT_ALLOWED.value());
+    }
+
+    @Test
+    public void getInventory_IfNoneMatch_NotModifiedUntilChanged() throws Exception {
+        String etag = given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.ETAG, notNullValue())
+                .extract()
+                .header(HttpHeaders.ETAG);
+
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .body("{ \"petId\": 1, \"quantity\": 1, \"status\": \"delivered\" }")
+                .when()
+                .post(PATH_PREFIX + "/store/order")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .when()
+                .get(PATH_PREFIX + "/store/inventory")
+                .then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.ETAG, not(equalTo(etag)));
+    }
+
     // Add further tests...
 }
@@ -0,0 +1,163 @@
+package com.paloit.server.petstore.controller;
+
+import com.paloit.util.BaseTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class UserApiControllerImplTest extends BaseTest {
+
+    @Test
+    public void importUsers_JsonArray_ResultPerUser() throws Exception {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .body("[ { \"username\": \"import1\" }, { \"firstName\": \"John\" }, { \"username\": \"import1\" } ]")
+            .when()
+            .post(PATH_PREFIX + "/user/import")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("index", contains(0, 1, 2))
+            .body("status", contains("created", "invalid", "conflict"));
+    }
+
+    @Test
+    public void importUsers_Ndjson_ImportEveryLine() throws Exception {
+        given()
+            .contentType("application/x-ndjson")
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .body("{ \"username\": \"import2\" }\n{ \"username\": \"import3\", \"email\": \"import3@email.com\" }\n")
+            .when()
+            .post(PATH_PREFIX + "/user/import")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", equalTo(2))
+            .body("status", contains("created", "created"));
+    }
+
+    @Test
+    public void importUsers_NotJson_BadRequest() throws Exception {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .body("users")
+            .when()
+            .post(PATH_PREFIX + "/user/import")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    public void createUsersWithListInput_JsonArray_ReturnLastCreatedUser() throws Exception {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .body("[ { \"username\": \"list1\", \"password\": \"secret\" }, { \"firstName\": \"John\" }, { \"username\": \"list2\" }, { \"username\": \"list1\" } ]")
+            .when()
+            .post(PATH_PREFIX + "/user/createWithList")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("username", equalTo("list2"))
+            .body("password", nullValue());
+
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .get(PATH_PREFIX + "/user/{username}", "list1")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+    }
+
+    @Test
+    public void createUsersWithListInput_NotJson_BadRequest() throws Exception {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .body("users")
+            .when()
+            .post(PATH_PREFIX + "/user/createWithList")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    public void loginUser_ValidPassword_ReturnSessionToken() throws Exception {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .body("{ \"username\": \"login1\", \"password\": \"secret\" }")
+            .when()
+            .post(PATH_PREFIX + "/user")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("password", nullValue());
+
+        String token = given()
+            .queryParam("username", "login1")
+            .queryParam("password", "secret")
+            .when()
+            .get(PATH_PREFIX + "/user/login")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .header(UserApiControllerImpl.EXPIRES_AFTER_HEADER, notNullValue())
+            .extract()
+            .asString();
+        assertThat(token).isNotBlank();
+
+        given()
+            .header(UserApiControllerImpl.SESSION_HEADER, token)
+            .when()
+            .get(PATH_PREFIX + "/user/logout")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+    }
+
+    @Test
+    public void loginUser_WrongPassword_BadRequest() throws Exception {
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body("{ \"username\": \"login2\", \"password\": \"secret\" }")
+            .when()
+            .post(PATH_PREFIX + "/user")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+
+        given()
+            .queryParam("username", "login2")
+            .queryParam("password", "wrong")
+            .when()
+            .get(PATH_PREFIX + "/user/login")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    public void deleteUser_UnknownUser_NotFound() throws Exception {
+        given()
+            .when()
+            .delete(PATH_PREFIX + "/user/{username}", "unknownUser")
+            .then()
+            .assertThat()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    // Add further tests...
+}
@@ -0,0 +1,81 @@
+package com.paloit.server.petstore.metrics;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+import com.paloit.server.petstore.api.PetApi;
+import com.paloit.util.BaseTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+// Tests only get a simple registry, the Prometheus registry is enabled again
+@AutoConfigureMetrics
+public class OperationMetricsTest extends BaseTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void getPetById_Found_TimedByOperationIdAndStatus() {
+        var timer = meterRegistry.get("petstore.operation")
+            .tags("operationId", "getPetById", "status", "200", "outcome", "SUCCESS", "exception", "none")
+            .timer();
+        long count = timer.count();
+
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .get(PATH_PREFIX + "/pet/{petId}", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        assertThat(timer.count()).isEqualTo(count + 1);
+        assertThat(meterRegistry.get("petstore.operation.cpu.time").tag("operationId", "getPetById").counter()).isNotNull();
+    }
+
+    @Test
+    public void getPetById_NotFound_TimedAsClientError() {
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .get(PATH_PREFIX + "/pet/{petId}", 300)
+            .then()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+
+        var timers = meterRegistry.get("petstore.operation")
+            .tags("operationId", "getPetById", "status", "404", "outcome", "CLIENT_ERROR")
+            .timers();
+        assertThat(timers).isNotEmpty();
+        assertThat(timers.stream().mapToLong(timer -> timer.count()).sum()).isPositive();
+    }
+
+    @Test
+    public void operationId_GeneratedMethod_MethodName() throws Exception {
+        var method = PetApi.class.getMethod("findPetsByStatus", String.class, Integer.class, String.class);
+
+        assertThat(OperationMetricsInterceptor.operationId(method)).isEqualTo("findPetsByStatus");
+    }
+
+    @Test
+    public void prometheus_AfterCall_OperationExported() {
+        given()
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .get(PATH_PREFIX + "/store/inventory")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        given()
+            .when()
+            .get("/actuator/prometheus")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body(containsString("petstore_operation_seconds_count{"))
+            .body(containsString("operationId=\"getInventory\""));
+    }
+}
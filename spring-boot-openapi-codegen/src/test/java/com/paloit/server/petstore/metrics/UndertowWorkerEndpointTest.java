@@ -0,0 +1,33 @@
+package com.paloit.server.petstore.metrics;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.paloit.util.BaseTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+public class UndertowWorkerEndpointTest extends BaseTest {
+
+    @Test
+    public void undertow_Running_ReportsWorkerPoolAndTuning() {
+        given()
+            .when()
+            .get("/actuator/undertow")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("requestThreads", equalTo("WORKER"))
+            .body("virtualThreads", nullValue())
+            .body("workerPool.maxSize", greaterThan(0))
+            // The request reading the endpoint runs on the pool itself
+            .body("workerPool.busy", greaterThanOrEqualTo(1))
+            .body("workerPool.queueSize", greaterThanOrEqualTo(0))
+            .body("workerPool.utilisation", greaterThan(0f))
+            .body("tuning.ioThreads", greaterThan(0))
+            .body("tuning.maxConnections", greaterThan(0))
+            .body("tuning.connectionLowWater", greaterThan(0));
+    }
+}
@@ -0,0 +1,77 @@
+package com.paloit.server.petstore.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Pet.StatusEnum;
+import com.paloit.server.petstore.model.Tag;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+public class BitmapPetIndexTest {
+
+    @Test
+    public void idsByStatus_ManyChunks_AllIdsFromId() {
+        var index = new BitmapPetIndex();
+        for (long id = 1; id <= 10_000; id++) {
+            index.update(id, null, pet(id, id % 2 == 0 ? StatusEnum.AVAILABLE : StatusEnum.SOLD));
+        }
+
+        assertThat(toList(index.idsByStatus(StatusEnum.AVAILABLE, 101)))
+            .containsExactlyElementsOf(LongStream.rangeClosed(102, 10_000).filter(id -> id % 2 == 0).boxed().collect(Collectors.toList()));
+        assertThat(toList(index.idsByStatus(StatusEnum.PENDING, Long.MIN_VALUE))).isEmpty();
+    }
+
+    @Test
+    public void idsByTags_SmallestPostingsFiltered_IdsWithAllTags() {
+        var index = new BitmapPetIndex();
+        for (long id = 1; id <= 10_000; id++) {
+            List<String> tags = new ArrayList<>();
+            if (id % 3 == 0) {
+                tags.add("three");
+            }
+            if (id % 5 == 0) {
+                tags.add("five");
+            }
+            index.update(id, null, pet(id, StatusEnum.AVAILABLE, tags.toArray(new String[0])));
+        }
+
+        assertThat(toList(index.idsByTags(List.of("three", "five"), 16)))
+            .containsExactlyElementsOf(LongStream.rangeClosed(16, 10_000).filter(id -> id % 15 == 0).boxed().collect(Collectors.toList()));
+        assertThat(toList(index.idsByTags(List.of("three", "unknown"), Long.MIN_VALUE))).isEmpty();
+    }
+
+    @Test
+    public void idsByStatus_WrittenWhileIterating_NextChunksSeeWrites() {
+        var index = new BitmapPetIndex();
+        for (long id = 1; id <= 1_000; id++) {
+            index.update(id, null, pet(id, StatusEnum.AVAILABLE));
+        }
+
+        PrimitiveIterator.OfLong ids = index.idsByStatus(StatusEnum.AVAILABLE, Long.MIN_VALUE);
+        assertThat(ids.nextLong()).isEqualTo(1);
+        index.update(1_000, pet(1_000, StatusEnum.AVAILABLE), null);
+        index.update(1_001, null, pet(1_001, StatusEnum.AVAILABLE));
+
+        List<Long> rest = toList(ids);
+        assertThat(rest).hasSize(999).startsWith(2L).endsWith(999L, 1_001L);
+    }
+
+    private static Pet pet(long id, StatusEnum status, String... tags) {
+        Pet pet = new Pet().id(id).name("pet" + id).photoUrls(List.of()).status(status);
+        for (String tag : tags) {
+            pet.addTagsItem(new Tag().name(tag));
+        }
+        return pet;
+    }
+
+    private static List<Long> toList(PrimitiveIterator.OfLong iterator) {
+        List<Long> values = new ArrayList<>();
+        iterator.forEachRemaining((long value) -> values.add(value));
+        return values;
+    }
+}
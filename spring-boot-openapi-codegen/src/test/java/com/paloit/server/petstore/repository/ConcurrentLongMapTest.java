@@ -0,0 +1,111 @@
+package com.paloit.server.petstore.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentLongMapTest {
+
+    @Test
+    public void put_get_remove_SingleKey() {
+        var map = new ConcurrentLongMap<String>();
+
+        assertThat(map.put(42l, "a")).isNull();
+        assertThat(map.put(42l, "b")).isEqualTo("a");
+        assertThat(map.putIfAbsent(42l, "c")).isEqualTo("b");
+        assertThat(map.get(42l)).isEqualTo("b");
+        assertThat(map.size()).isEqualTo(1);
+
+        assertThat(map.remove(42l)).isEqualTo("b");
+        assertThat(map.get(42l)).isNull();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void computeIfPresent_MissingKey_ReturnNull() {
+        var map = new ConcurrentLongMap<String>();
+
+        assertThat(map.computeIfPresent(1l, value -> value + "x")).isNull();
+        map.put(1l, "a");
+        assertThat(map.computeIfPresent(1l, value -> value + "x")).isEqualTo("ax");
+        assertThat(map.computeIfPresent(1l, value -> null)).isNull();
+        assertThat(map.containsKey(1l)).isFalse();
+    }
+
+    @Test
+    public void put_ManyKeys_SurviveResize() {
+        var map = new ConcurrentLongMap<Long>(4);
+        for (long key = -50_000; key < 50_000; key++) {
+            map.put(key, key);
+        }
+        for (long key = -50_000; key < 50_000; key += 2) {
+            map.remove(key);
+        }
+
+        assertThat(map.size()).isEqualTo(50_000);
+        for (long key = -50_000; key < 50_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? null : key);
+        }
+    }
+
+    @Test
+    public void segmentIndex_LargeSegmentTables_BucketsIndependentOfSegment() {
+        var map = new ConcurrentLongMap<Long>(64);
+        int bucketMask = (1 << 20) - 1;
+        Set<Integer> highBucketBits = new HashSet<>();
+        for (long key = 0; key < 1_000_000; key++) {
+            int hash = ConcurrentLongMap.hash(key);
+            if (map.segmentIndex(hash) == 0) {
+                highBucketBits.add((hash & bucketMask) >>> 16);
+            }
+        }
+
+        // A segment with 2^20 buckets uses all of them, not only those whose bits 16 to 19 match the segment
+        assertThat(highBucketBits).hasSize(16);
+    }
+
+    @Test
+    public void segmentIndex_SingleSegment_AlwaysZero() {
+        var map = new ConcurrentLongMap<Long>(1);
+
+        assertThat(map.segmentIndex(-1)).isZero();
+        assertThat(map.segmentIndex(Integer.MIN_VALUE)).isZero();
+    }
+
+    @Test
+    public void put_ConcurrentWriters_AllEntriesVisible() throws Exception {
+        var map = new ConcurrentLongMap<Long>();
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long offset = (long) t * perThread;
+            futures.add(executor.submit(() -> {
+                for (long key = offset; key < offset + perThread; key++) {
+                    map.put(key, key);
+                    assertThat(map.get(key)).isEqualTo(key);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(map.size()).isEqualTo(threads * perThread);
+        long[] sum = new long[1];
+        map.forEach((key, value) -> sum[0] += value);
+        long n = (long) threads * perThread;
+        assertThat(sum[0]).isEqualTo(n * (n - 1) / 2);
+    }
+}
@@ -0,0 +1,93 @@
+package com.paloit.server.petstore.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+public class LongBitmapTest {
+
+    @Test
+    public void add_remove_SparseAndDenseContainers() {
+        var bitmap = new LongBitmap();
+        var expected = new TreeSet<Long>();
+        var random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            // Dense range followed by sparse values spread over many containers
+            long value = i < 20_000 ? i : random.nextInt(10_000_000) - 5_000_000;
+            bitmap.add(value);
+            expected.add(value);
+        }
+        for (int i = 0; i < 20_000; i += 3) {
+            bitmap.remove(i);
+            expected.remove((long) i);
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        assertThat(toList(bitmap.iterator())).containsExactlyElementsOf(expected);
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(3)).isFalse();
+    }
+
+    @Test
+    public void and_or_MatchSetOperations() {
+        var left = new LongBitmap();
+        var right = new LongBitmap();
+        var leftSet = new TreeSet<Long>();
+        var rightSet = new TreeSet<Long>();
+        for (long value = 0; value < 200_000; value++) {
+            if (value % 2 == 0) {
+                left.add(value);
+                leftSet.add(value);
+            }
+            if (value % 3 == 0 || value > 150_000) {
+                right.add(value);
+                rightSet.add(value);
+            }
+        }
+
+        var intersection = new TreeSet<>(leftSet);
+        intersection.retainAll(rightSet);
+        var union = new TreeSet<>(leftSet);
+        union.addAll(rightSet);
+
+        assertThat(toList(left.and(right).iterator())).containsExactlyElementsOf(intersection);
+        assertThat(toList(left.or(right).iterator())).containsExactlyElementsOf(union);
+    }
+
+    @Test
+    public void iteratorFrom_SkipSmallerValues() {
+        var bitmap = new LongBitmap();
+        for (long value : new long[] { 5, 70_000, 70_001, 200_000 }) {
+            bitmap.add(value);
+        }
+
+        assertThat(toList(bitmap.iteratorFrom(70_001))).containsExactly(70_001l, 200_000l);
+        assertThat(toList(bitmap.iteratorFrom(6))).containsExactly(70_000l, 70_001l, 200_000l);
+        assertThat(toList(bitmap.iteratorFrom(200_001))).isEmpty();
+    }
+
+    @Test
+    public void copyValues_BufferSmallerThanBitmap_CopiesUpToBufferLength() {
+        var bitmap = new LongBitmap();
+        for (long value = 0; value < 200_000; value += 7) {
+            bitmap.add(value);
+        }
+        long[] buffer = new long[3];
+
+        assertThat(bitmap.copyValues(65_530, buffer)).isEqualTo(3);
+        assertThat(buffer).containsExactly(65_534l, 65_541l, 65_548l);
+        assertThat(bitmap.copyValues(199_991, buffer)).isEqualTo(1);
+        assertThat(buffer[0]).isEqualTo(199_997l);
+    }
+
+    private static List<Long> toList(PrimitiveIterator.OfLong iterator) {
+        List<Long> values = new ArrayList<>();
+        iterator.forEachRemaining((long value) -> values.add(value));
+        return values;
+    }
+}
@@ -0,0 +1,45 @@
+package com.paloit.server.petstore.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.paloit.server.petstore.model.Order;
+import com.paloit.server.petstore.model.Order.StatusEnum;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class OrderRepositoryTest {
+
+    @Test
+    public void quantityByStatus_OrdersChanged_FollowChanges() {
+        var orderRepository = new OrderRepository();
+        orderRepository.save(order(1l, 3, StatusEnum.PLACED));
+        orderRepository.save(order(2l, 4, StatusEnum.PLACED));
+        orderRepository.save(order(1l, 5, StatusEnum.APPROVED));
+
+        assertThat(orderRepository.quantityByStatus(StatusEnum.PLACED)).isEqualTo(4);
+        assertThat(orderRepository.quantityByStatus(StatusEnum.APPROVED)).isEqualTo(5);
+
+        orderRepository.deleteById(2l);
+        assertThat(orderRepository.quantityByStatus(StatusEnum.PLACED)).isZero();
+    }
+
+    @Test
+    public void save_ConcurrentOrders_CountAllQuantities() throws Exception {
+        var orderRepository = new OrderRepository();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            executor.execute(() -> orderRepository.save(order(null, 2, StatusEnum.PLACED)));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(orderRepository.count()).isEqualTo(10_000);
+        assertThat(orderRepository.quantityByStatus(StatusEnum.PLACED)).isEqualTo(20_000);
+    }
+
+    private static Order order(Long id, int quantity, StatusEnum status) {
+        return new Order().id(id).petId(1l).quantity(quantity).status(status).complete(false);
+    }
+}
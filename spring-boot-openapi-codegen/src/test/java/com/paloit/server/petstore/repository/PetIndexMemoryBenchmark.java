@@ -0,0 +1,168 @@
+package com.paloit.server.petstore.repository;
+
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Pet.StatusEnum;
+import com.paloit.server.petstore.model.Tag;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Compares the retained heap of the sorted set and the bitmap {@link PetIndex} for a large catalogue,
+ * with the hash set index which the sorted set replaced for pagination as baseline.
+ *
+ * Not part of the test suite, run the main method with a large heap, e.g. {@code -Xmx8g}.
+ * The first argument is the number of pets, 5 million by default.
+ */
+public class PetIndexMemoryBenchmark {
+
+    private static final String[] TAGS = { "dog", "cat", "bird", "small", "large", "young", "old", "vaccinated" };
+
+    public static void main(String[] args) {
+        int pets = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+
+        measure("HASH_SET", HashSetPetIndex::new, pets);
+        for (PetIndex.Type type : PetIndex.Type.values()) {
+            measure(type.name(), () -> PetIndex.create(type), pets);
+        }
+    }
+
+    private static void measure(String name, Supplier<PetIndex> indexFactory, int pets) {
+        long before = usedHeap();
+        PetIndex index = indexFactory.get();
+        fill(index, pets);
+        long after = usedHeap();
+
+        long start = System.nanoTime();
+        long matches = 0;
+        var ids = index.idsByTags(List.of("dog", "small", "vaccinated"), Long.MIN_VALUE);
+        while (ids.hasNext()) {
+            ids.nextLong();
+            matches++;
+        }
+        long queryMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("%-10s pets=%,d retained=%,d MB (%.1f bytes/pet) 3-tag query=%,d ms (%,d matches)%n",
+            name, pets, (after - before) / (1024 * 1024), (after - before) / (double) pets, queryMillis, matches);
+        // Keep the index reachable until it has been measured
+        if (index.hashCode() == 0) {
+            System.out.println();
+        }
+    }
+
+    private static void fill(PetIndex index, int pets) {
+        StatusEnum[] statuses = StatusEnum.values();
+        for (int id = 1; id <= pets; id++) {
+            var pet = new Pet().id((long) id).status(statuses[id % statuses.length]);
+            for (int tag = 0; tag < TAGS.length; tag++) {
+                if ((id * 31 + tag) % (tag + 2) == 0) {
+                    pet.addTagsItem(new Tag().name(TAGS[tag]));
+                }
+            }
+            index.update(id, null, pet);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * The hash set index replaced by the sorted set for pagination, kept as memory baseline. Ids are
+     * not ordered, fromId only filters.
+     */
+    private static class HashSetPetIndex implements PetIndex {
+
+        private final Map<StatusEnum, Set<Long>> byStatus = new EnumMap<>(StatusEnum.class);
+        private final ConcurrentHashMap<String, Set<Long>> byTag = new ConcurrentHashMap<>();
+
+        HashSetPetIndex() {
+            for (StatusEnum status : StatusEnum.values()) {
+                byStatus.put(status, ConcurrentHashMap.newKeySet());
+            }
+        }
+
+        @Override
+        public void update(long id, Pet previous, Pet current) {
+            if (previous != null && previous.getStatus() != null) {
+                byStatus.get(previous.getStatus()).remove(id);
+            }
+            if (current != null && current.getStatus() != null) {
+                byStatus.get(current.getStatus()).add(id);
+            }
+            for (String tag : PetIndex.tagNames(previous)) {
+                byTag.computeIfPresent(tag, (name, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+            for (String tag : PetIndex.tagNames(current)) {
+                byTag.computeIfAbsent(tag, name -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong idsByStatus(StatusEnum status, long fromId) {
+            return filter(byStatus.get(status).iterator(), List.of(), fromId);
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong idsByTags(Collection<String> tags, long fromId) {
+            List<Set<Long>> postings = new ArrayList<>();
+            for (String tag : tags) {
+                postings.add(byTag.getOrDefault(tag, Set.of()));
+            }
+            if (postings.isEmpty()) {
+                return filter(Collections.emptyIterator(), List.of(), fromId);
+            }
+            postings.sort(Comparator.comparingInt(Set::size));
+            return filter(postings.get(0).iterator(), postings.subList(1, postings.size()), fromId);
+        }
+
+        private static PrimitiveIterator.OfLong filter(Iterator<Long> ids, List<Set<Long>> containedIn, long fromId) {
+            return new PrimitiveIterator.OfLong() {
+
+                private Long next = advance();
+
+                private Long advance() {
+                    while (ids.hasNext()) {
+                        Long id = ids.next();
+                        if (id >= fromId && containedIn.stream().allMatch(postings -> postings.contains(id))) {
+                            return id;
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public long nextLong() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    long current = next;
+                    next = advance();
+                    return current;
+                }
+            };
+        }
+    }
+}
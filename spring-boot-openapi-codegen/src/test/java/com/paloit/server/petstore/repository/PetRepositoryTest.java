@@ -0,0 +1,104 @@
+package com.paloit.server.petstore.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.paloit.server.petstore.model.Pet;
+import com.paloit.server.petstore.model.Pet.StatusEnum;
+import com.paloit.server.petstore.model.Tag;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class PetRepositoryTest {
+
+    @Test
+    public void save_WithoutId_AssignNextId() {
+        var petRepository = new PetRepository(PetIndex.Type.SORTED_SET);
+        petRepository.save(pet(5l, StatusEnum.AVAILABLE));
+        Pet saved = petRepository.save(pet(null, StatusEnum.AVAILABLE));
+
+        assertThat(saved.getId()).isEqualTo(6l);
+        assertThat(petRepository.count()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PetIndex.Type.class)
+    public void findByStatus_StatusChanged_MoveBetweenIndexes(PetIndex.Type indexType) {
+        var petRepository = new PetRepository(indexType);
+        petRepository.save(pet(1l, StatusEnum.AVAILABLE));
+        petRepository.save(pet(2l, StatusEnum.AVAILABLE));
+        petRepository.update(2l, pet -> pet.status(StatusEnum.SOLD));
+
+        assertThat(petRepository.findByStatus(StatusEnum.AVAILABLE)).extracting(Pet::getId).containsExactly(1l);
+        assertThat(petRepository.findByStatus(StatusEnum.SOLD)).extracting(Pet::getId).containsExactly(2l);
+
+        assertThat(petRepository.countByStatus(StatusEnum.AVAILABLE)).isEqualTo(1);
+        assertThat(petRepository.countByStatus(StatusEnum.SOLD)).isEqualTo(1);
+
+        petRepository.deleteById(1l);
+        assertThat(petRepository.findByStatus(StatusEnum.AVAILABLE)).isEmpty();
+        assertThat(petRepository.countByStatus(StatusEnum.AVAILABLE)).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(PetIndex.Type.class)
+    public void findByTags_MultipleTags_ReturnIntersection(PetIndex.Type indexType) {
+        var petRepository = new PetRepository(indexType);
+        petRepository.save(pet(1l, StatusEnum.AVAILABLE, "dog", "small"));
+        petRepository.save(pet(2l, StatusEnum.AVAILABLE, "dog", "large"));
+        petRepository.save(pet(3l, StatusEnum.PENDING, "cat", "small"));
+
+        assertThat(petRepository.findByTags(List.of("dog"))).extracting(Pet::getId).containsExactlyInAnyOrder(1l, 2l);
+        assertThat(petRepository.findByTags(List.of("small", "dog"))).extracting(Pet::getId).containsExactly(1l);
+        assertThat(petRepository.findByTags(List.of("dog", "unknown"))).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(PetIndex.Type.class)
+    public void findByTags_TagRemoved_NotFoundAnymore(PetIndex.Type indexType) {
+        var petRepository = new PetRepository(indexType);
+        petRepository.save(pet(1l, StatusEnum.AVAILABLE, "dog", "small"));
+        petRepository.update(pet(1l, StatusEnum.AVAILABLE, "dog"));
+
+        assertThat(petRepository.findByTags(List.of("small"))).isEmpty();
+        assertThat(petRepository.findByTags(List.of("dog"))).extracting(Pet::getId).containsExactly(1l);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PetIndex.Type.class)
+    public void iterateByStatus_FromId_ContinueInIdOrder(PetIndex.Type indexType) {
+        var petRepository = new PetRepository(indexType);
+        petRepository.save(pet(4l, StatusEnum.PENDING));
+        petRepository.save(pet(1l, StatusEnum.AVAILABLE));
+        petRepository.save(pet(3l, StatusEnum.AVAILABLE));
+        petRepository.save(pet(2l, StatusEnum.SOLD));
+        var statuses = EnumSet.of(StatusEnum.AVAILABLE, StatusEnum.PENDING);
+
+        assertThat(petRepository.iterateByStatus(statuses, Long.MIN_VALUE)).toIterable()
+            .extracting(Pet::getId).containsExactly(1l, 3l, 4l);
+        assertThat(petRepository.iterateByStatus(statuses, 2l)).toIterable()
+            .extracting(Pet::getId).containsExactly(3l, 4l);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PetIndex.Type.class)
+    public void iterateByTags_FromId_SkipPreviousPets(PetIndex.Type indexType) {
+        var petRepository = new PetRepository(indexType);
+        for (long id = 1; id <= 200_000; id += 1_000) {
+            petRepository.save(pet(id, StatusEnum.AVAILABLE, "dog"));
+        }
+
+        assertThat(petRepository.iterateByTags(List.of("dog"), 150_000l)).toIterable()
+            .extracting(Pet::getId).startsWith(150_001l).hasSize(50);
+    }
+
+    private static Pet pet(Long id, StatusEnum status, String... tags) {
+        var pet = new Pet().id(id).name("pet" + id).status(status);
+        for (String tag : tags) {
+            pet.addTagsItem(new Tag().name(tag));
+        }
+        return pet;
+    }
+}
@@ -0,0 +1,68 @@
+package com.paloit.server.petstore.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.paloit.server.petstore.model.User;
+import com.paloit.server.petstore.security.PasswordHasher;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.Test;
+
+public class UserRepositoryTest {
+
+    @Test
+    public void createAll_BatchWithConflicts_HashesOnlyNewUsers() {
+        var hasher = new CountingHasher();
+        var userRepository = new UserRepository(hasher);
+        userRepository.save(user("taken"));
+        hasher.threads.clear();
+
+        boolean[] created = userRepository.createAll(List.of(
+            user("taken"), user("first"), user("first"), user("second"), user("taken")));
+
+        assertThat(created).containsExactly(false, true, false, true, false);
+        assertThat(hasher.threads).hasSize(2);
+        assertThat(userRepository.findByUsername("first").get().getPassword()).startsWith("pbkdf2-sha256$");
+    }
+
+    @Test
+    public void createAll_Batch_HashedOffTheCallingThreadInParallel() {
+        var hasher = new CountingHasher();
+        var userRepository = new UserRepository(hasher);
+        int batchSize = 16;
+        User[] batch = new User[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            batch[i] = user("parallel-" + i);
+        }
+
+        userRepository.createAll(List.of(batch));
+
+        assertThat(hasher.threads).hasSize(batchSize)
+            .doesNotContain(Thread.currentThread().getName())
+            .allMatch(name -> name.startsWith("password-hash-"));
+        assertThat(hasher.threads.stream().distinct().count()).isGreaterThan(1);
+    }
+
+    private static User user(String username) {
+        return new User().username(username).password("secret");
+    }
+
+    /**
+     * Records the thread of every hash, with few iterations so the test stays fast.
+     */
+    private static class CountingHasher extends PasswordHasher {
+
+        private final Queue<String> threads = new ConcurrentLinkedQueue<>();
+
+        CountingHasher() {
+            super(1000, 4);
+        }
+
+        @Override
+        public String hash(String password) {
+            threads.add(Thread.currentThread().getName());
+            return super.hash(password);
+        }
+    }
+}
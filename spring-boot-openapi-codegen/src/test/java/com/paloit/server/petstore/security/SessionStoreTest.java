@@ -0,0 +1,80 @@
+package com.paloit.server.petstore.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SessionStoreTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final SessionStore sessionStore = new SessionStore(Duration.ofSeconds(10), Duration.ofSeconds(1), clock);
+
+    @AfterEach
+    public void shutdown() {
+        sessionStore.shutdown();
+    }
+
+    @Test
+    public void find_SessionExpired_Empty() {
+        var session = sessionStore.create("theUser");
+        assertThat(sessionStore.find(session.getToken())).isPresent();
+
+        clock.advance(Duration.ofSeconds(10));
+        assertThat(sessionStore.find(session.getToken())).isEmpty();
+    }
+
+    @Test
+    public void sweep_SomeSessionsExpired_RemoveOnlyExpired() {
+        for (int i = 0; i < 100; i++) {
+            sessionStore.create("user" + i);
+            clock.advance(Duration.ofMillis(100));
+        }
+
+        // The first 50 sessions have been created more than 10 seconds ago
+        clock.advance(Duration.ofSeconds(5));
+        sessionStore.sweep();
+        assertThat(sessionStore.size()).isBetween(49, 51);
+
+        clock.advance(Duration.ofMinutes(1));
+        sessionStore.sweep();
+        assertThat(sessionStore.size()).isZero();
+    }
+
+    @Test
+    public void remove_Logout_SessionGone() {
+        var session = sessionStore.create("theUser");
+
+        assertThat(sessionStore.remove(session.getToken())).isTrue();
+        assertThat(sessionStore.find(session.getToken())).isEmpty();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2022-01-19T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.paloit.server.petstore.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.paloit.server.petstore.repository.OrderRepository;
+import com.paloit.server.petstore.repository.PetRepository;
+import com.paloit.server.petstore.repository.UserRepository;
+import com.paloit.util.BaseTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class StartupWarmUpTest extends BaseTest {
+
+    @Autowired
+    private StartupWarmUp startupWarmUp;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private PetRepository petRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void run_OnStartup_TimeRecorded() {
+        var timer = meterRegistry.get("petstore.startup.warm-up").timer();
+
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    public void warmUpHandlers_AllHandlersAnswered_NoDataChanged() {
+        int pets = petRepository.count();
+        int users = userRepository.count();
+
+        assertThat(startupWarmUp.warmUpModels()).isEqualTo(12);
+        assertThat(startupWarmUp.warmUpHandlers()).isEqualTo(19);
+
+        assertThat(petRepository.count()).isEqualTo(pets);
+        assertThat(userRepository.count()).isEqualTo(users);
+        assertThat(petRepository.findById(StartupWarmUp.UNKNOWN_ID)).isEmpty();
+        assertThat(orderRepository.findById(StartupWarmUp.UNKNOWN_ID)).isEmpty();
+        assertThat(userRepository.findByUsername(StartupWarmUp.UNKNOWN_USERNAME)).isEmpty();
+    }
+
+    @Test
+    public void warmUpHandlers_OperationMetrics_NotRecorded() {
+        long calls = operationCalls();
+
+        assertThat(startupWarmUp.warmUpHandlers()).isEqualTo(19);
+
+        assertThat(operationCalls()).isEqualTo(calls);
+    }
+
+    private long operationCalls() {
+        return meterRegistry.find("petstore.operation").timers().stream().mapToLong(Timer::count).sum();
+    }
+}
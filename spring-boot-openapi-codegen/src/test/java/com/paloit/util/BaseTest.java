@@ -2,6 +2,7 @@ package com.paloit.util;
 
 import io.restassured.RestAssured;
 import io.restassured.filter.log.LogDetail;
+import io.restassured.http.ContentType;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.TestInstance;
@@ -9,6 +10,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 
 import static io.restassured.RestAssured.config;
+import static io.restassured.config.EncoderConfig.encoderConfig;
 import static io.restassured.config.LogConfig.logConfig;
 
 @Slf4j
@@ -28,6 +30,12 @@ public class BaseTest {
                 config()
                         .logConfig(
                                 logConfig().enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL)
+                        )
+                        .encoderConfig(
+                                // Sends newline delimited JSON as it is written and binary formats without charset
+                                encoderConfig()
+                                        .encodeContentTypeAs("application/x-ndjson", ContentType.TEXT)
+                                        .appendDefaultContentCharsetToContentTypeIfUndefined(false)
                         );
     }
 